@@ -43,6 +43,8 @@
  */
 package com.itextpdf.barcodes;
 
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.colors.Color;
@@ -91,6 +93,112 @@ public abstract class Barcode2D {
      * @return the XObject.
      */
     public abstract PdfFormXObject createFormXObject(Color foreground, PdfDocument document);
-}
 
+    /**
+     * Adds the dark modules of a barcode bitmap to the current path of the canvas.
+     * Dark modules which are adjacent in a row are added as one rectangle, and so are equal runs of
+     * consecutive rows, so that the path has far fewer rectangles than the barcode has dark modules.
+     *
+     * @param canvas       the canvas to add the rectangles to
+     * @param bits         the bitmap, rows from top to bottom, one bit per module, set for the dark ones.
+     *                     Each row starts at a new byte
+     * @param columns      the number of modules in a row
+     * @param rows         the number of rows
+     * @param moduleWidth  the width of a module
+     * @param moduleHeight the height of a module
+     */
+    static void addModules(PdfCanvas canvas, byte[] bits, int columns, int rows, float moduleWidth, float moduleHeight) {
+        int stride = (columns + 7) / 8;
+        int maxRuns = (columns + 1) / 2;
+        // runs of the previous row which may still grow downwards: start and end columns and first row
+        int[] openStarts = new int[maxRuns];
+        int[] openEnds = new int[maxRuns];
+        int[] openTops = new int[maxRuns];
+        int openCount = 0;
+        int[] starts = new int[maxRuns];
+        int[] ends = new int[maxRuns];
+        int[] tops = new int[maxRuns];
+        // an extra empty row closes the runs of the last one
+        for (int k = 0; k <= rows; ++k) {
+            int count = 0;
+            if (k < rows) {
+                int p = k * stride;
+                int j = 0;
+                while (j < columns) {
+                    if ((bits[p + (j >> 3)] & (0x80 >> (j & 7))) == 0) {
+                        ++j;
+                        continue;
+                    }
+                    starts[count] = j;
+                    while (j < columns && (bits[p + (j >> 3)] & (0x80 >> (j & 7))) != 0) {
+                        ++j;
+                    }
+                    ends[count++] = j;
+                }
+            }
+            int i = 0;
+            int n = 0;
+            while (i < openCount || n < count) {
+                if (n == count || i < openCount && openStarts[i] < starts[n]) {
+                    addRectangle(canvas, openStarts[i], openEnds[i], openTops[i], k, rows, moduleWidth, moduleHeight);
+                    ++i;
+                } else if (i == openCount || openStarts[i] > starts[n]) {
+                    tops[n++] = k;
+                } else if (openEnds[i] == ends[n]) {
+                    tops[n++] = openTops[i++];
+                } else {
+                    addRectangle(canvas, openStarts[i], openEnds[i], openTops[i], k, rows, moduleWidth, moduleHeight);
+                    ++i;
+                    tops[n++] = k;
+                }
+            }
+            int[] temp = openStarts;
+            openStarts = starts;
+            starts = temp;
+            temp = openEnds;
+            openEnds = ends;
+            ends = temp;
+            temp = openTops;
+            openTops = tops;
+            tops = temp;
+            openCount = count;
+        }
+    }
+
+    /**
+     * Creates a PdfFormXObject which draws a barcode bitmap as a 1-bit image mask painted with the foreground color.
+     *
+     * @param bits         the bitmap, rows from top to bottom, one bit per module, set for the dark ones.
+     *                     Each row starts at a new byte
+     * @param columns      the number of modules in a row
+     * @param rows         the number of rows
+     * @param moduleWidth  the width of a module
+     * @param moduleHeight the height of a module
+     * @param foreground   the color of the dark modules. It can be <CODE>null</CODE>
+     * @param document     the document
+     * @return the XObject
+     */
+    static PdfFormXObject createImageFormXObject(byte[] bits, int columns, int rows, float moduleWidth, float moduleHeight,
+            Color foreground, PdfDocument document) {
+        float width = columns * moduleWidth;
+        float height = rows * moduleHeight;
+        PdfFormXObject xObject = new PdfFormXObject(new Rectangle(width, height));
+        PdfCanvas canvas = new PdfCanvas(xObject, document);
+        if (foreground != null) {
+            canvas.setFillColor(foreground);
+        }
+        // 1-bit images are CCITT encoded with BlackIs1, so the dark modules stay the 1 samples, while a mask
+        // paints the 0 samples unless its decode array is inverted
+        ImageData image = ImageDataFactory.create(columns, rows, 1, 1, bits, null);
+        image.setInverted(true);
+        image.makeMask();
+        canvas.addImage(image, width, 0, 0, height, 0, 0);
+        return xObject;
+    }
 
+    private static void addRectangle(PdfCanvas canvas, int start, int end, int top, int bottom, int rows,
+            float moduleWidth, float moduleHeight) {
+        canvas.rectangle(start * moduleWidth, (rows - bottom) * moduleHeight,
+                (end - start) * moduleWidth, (bottom - top) * moduleHeight);
+    }
+}
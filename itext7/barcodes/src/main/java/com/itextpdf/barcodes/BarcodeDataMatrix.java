@@ -240,25 +240,28 @@ public class BarcodeDataMatrix extends Barcode2D {
             canvas.setFillColor(foreground);
         }
 
-        int w = width + 2 * ws;
-        int h = height + 2 * ws;
-        int stride = (w + 7) / 8;
-
-        for (int k = 0; k < h; ++k) {
-            int p = k * stride;
-            for (int j = 0; j < w; ++j) {
-                int b = image[p + j / 8] & 0xff;
-                b <<= j % 8;
-                if ((b & 0x80) != 0) {
-                    canvas.rectangle(j * moduleSide, (h - k - 1) * moduleSide, moduleSide, moduleSide);
-                }
-            }
-        }
+        addModules(canvas, image, width + 2 * ws, height + 2 * ws, moduleSide, moduleSide);
         canvas.fill();
 
         return getBarcodeSize();
     }
 
+    /**
+     * Creates a PdfFormXObject with the barcode drawn as a 1-bit image mask instead of a path.
+     * The image is usually smaller than the path and faster to render, but it is scaled like any other image.
+     *
+     * @param foreground the color of the pixels. It can be <CODE>null</CODE>
+     * @param moduleSide the side (width and height) of the pixels.
+     * @param document   The document
+     * @return the XObject.
+     */
+    public PdfFormXObject createImageFormXObject(Color foreground, float moduleSide, PdfDocument document) {
+        if (image == null) {
+            return null;
+        }
+        return createImageFormXObject(image, width + 2 * ws, height + 2 * ws, moduleSide, moduleSide, foreground, document);
+    }
+
     // AWT related methods (remove this if you port to Android / GAE)
 
     /**
@@ -700,20 +700,10 @@ public class BarcodePDF417 extends Barcode2D {
 
     public Rectangle placeBarcode(PdfCanvas canvas, Color foreground, float moduleWidth, float moduleHeight) {
         paintCode();
-        int stride = (bitColumns + 7) / 8;
         if (foreground != null) {
             canvas.setFillColor(foreground);
         }
-        for (int k = 0; k < codeRows; ++k) {
-            int p = k * stride;
-            for (int j = 0; j < bitColumns; ++j) {
-                int b = outBits[p + j / 8] & 0xff;
-                b <<= j % 8;
-                if ((b & 0x80) != 0) {
-                    canvas.rectangle(j * moduleWidth, (codeRows - k - 1) * moduleHeight, moduleWidth, moduleHeight);
-                }
-            }
-        }
+        addModules(canvas, outBits, bitColumns, codeRows, moduleWidth, moduleHeight);
         canvas.fill();
 
         return getBarcodeSize();
@@ -861,6 +851,21 @@ public class BarcodePDF417 extends Barcode2D {
         return xObject;
     }
 
+    /**
+     * Creates a PdfFormXObject with the barcode drawn as a 1-bit image mask instead of a path.
+     * The image is usually smaller than the path and faster to render, but it is scaled like any other image.
+     *
+     * @param foreground    The color of the pixels. It can be <CODE>null</CODE>
+     * @param moduleWidth   The width of the pixels.
+     * @param moduleHeight  The height of the pixels.
+     * @param document      The document
+     * @return the XObject.
+     */
+    public PdfFormXObject createImageFormXObject(Color foreground, float moduleWidth, float moduleHeight, PdfDocument document) {
+        paintCode();
+        return createImageFormXObject(outBits, bitColumns, codeRows, moduleWidth, moduleHeight, foreground, document);
+    }
+
     /**
      * Creates a <CODE>java.awt.Image</CODE>.
      *
@@ -133,12 +133,22 @@ public class BarcodeQRCode extends Barcode2D {
      */
     public void regenerate() {
         if (code != null) {
-            try {
-                QRCodeWriter qc = new QRCodeWriter();
-                bm = qc.encode(code, 1, 1, hints);
-            } catch (WriterException ex) {
-                throw new IllegalArgumentException(ex.getMessage(), ex.getCause());
-            }
+            bm = encode(code, hints);
+        }
+    }
+
+    /**
+     * Encodes the text into the matrix of the modules of a QR barcode.
+     *
+     * @param code  the text to be encoded
+     * @param hints barcode hints. See #setHints for description.
+     * @return the matrix, a zero value for each dark module
+     */
+    static ByteMatrix encode(String code, Map<EncodeHintType, Object> hints) {
+        try {
+            return new QRCodeWriter().encode(code, 1, 1, hints);
+        } catch (WriterException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex.getCause());
         }
     }
 
@@ -175,22 +185,11 @@ public class BarcodeQRCode extends Barcode2D {
      * @return the dimensions the barcode occupies
      */
     public Rectangle placeBarcode(PdfCanvas canvas, Color foreground, float moduleSide) {
-        int width = bm.getWidth();
-        int height = bm.getHeight();
-        byte[][] mt = bm.getArray();
-
         if (foreground != null) {
             canvas.setFillColor(foreground);
         }
 
-        for (int y = 0; y < height; ++y) {
-            byte[] line = mt[y];
-            for (int x = 0; x < width; ++x) {
-                if (line[x] == 0) {
-                    canvas.rectangle(x * moduleSide, (height - y - 1) * moduleSide, moduleSide, moduleSide);
-                }
-            }
-        }
+        addModules(canvas, getModuleBits(bm), bm.getWidth(), bm.getHeight(), moduleSide, moduleSide);
         canvas.fill();
 
         return getBarcodeSize(moduleSide);
@@ -223,6 +222,20 @@ public class BarcodeQRCode extends Barcode2D {
         return xObject;
     }
 
+    /**
+     * Creates a PdfFormXObject with the barcode drawn as a 1-bit image mask instead of a path.
+     * The image is usually smaller than the path and faster to render, but it is scaled like any other image.
+     *
+     * @param foreground    The color of the pixels. It can be <CODE>null</CODE>
+     * @param moduleSize    The size of the pixels.
+     * @param document      The document
+     * @return the XObject.
+     */
+    public PdfFormXObject createImageFormXObject(Color foreground, float moduleSize, PdfDocument document) {
+        return createImageFormXObject(getModuleBits(bm), bm.getWidth(), bm.getHeight(), moduleSize, moduleSize,
+                foreground, document);
+    }
+
     /**
      * Creates a <CODE>java.awt.Image</CODE>.
      *
@@ -267,4 +280,24 @@ public class BarcodeQRCode extends Barcode2D {
         }
         return b;
     }
+
+    /**
+     * Gets the modules of the barcode packed one bit per module, a set bit for each dark module.
+     */
+    static byte[] getModuleBits(ByteMatrix bm) {
+        int width = bm.getWidth();
+        int height = bm.getHeight();
+        int stride = (width + 7) / 8;
+        byte[][] mt = bm.getArray();
+        byte[] bits = new byte[stride * height];
+        for (int y = 0; y < height; ++y) {
+            byte[] line = mt[y];
+            for (int x = 0; x < width; ++x) {
+                if (line[x] == 0) {
+                    bits[y * stride + x / 8] |= (byte) (0x80 >> (x % 8));
+                }
+            }
+        }
+        return bits;
+    }
 }
@@ -0,0 +1,180 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.barcodes;
+
+import com.itextpdf.barcodes.qrcode.ByteMatrix;
+import com.itextpdf.barcodes.qrcode.EncodeHintType;
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Creates the form XObjects of many QR barcodes that share the same hints, color and module size,
+ * e.g. the codes of a batch of tickets.
+ * <p>
+ * Every distinct text is encoded once: the XObject of a text that was already added to the batch is reused.
+ * The codes may be encoded concurrently by an {@link ExecutorService}, the XObjects themselves are always
+ * created in the calling thread, as {@link PdfDocument} is not thread-safe.
+ */
+public class BarcodeQRCodeBatch {
+
+    private final PdfDocument document;
+    private final Map<EncodeHintType, Object> hints;
+    private final Color foreground;
+    private final float moduleSize;
+    private final Map<String, PdfFormXObject> xObjects = new HashMap<>();
+
+    /**
+     * Creates a batch of QR barcodes.
+     *
+     * @param document   the document the XObjects are created for
+     * @param hints      barcode hints. See {@link BarcodeQRCode#setHints(Map)} for description.
+     * @param foreground the color of the pixels. It can be <CODE>null</CODE>
+     * @param moduleSize the size of the pixels
+     */
+    public BarcodeQRCodeBatch(PdfDocument document, Map<EncodeHintType, Object> hints, Color foreground,
+            float moduleSize) {
+        this.document = document;
+        this.hints = hints == null ? null : new HashMap<>(hints);
+        this.foreground = foreground;
+        this.moduleSize = moduleSize;
+    }
+
+    /**
+     * Gets the XObject of the barcode of the text, creating it if the text was not added to the batch yet.
+     *
+     * @param code the text to be encoded
+     * @return the XObject
+     */
+    public PdfFormXObject createFormXObject(String code) {
+        PdfFormXObject xObject = xObjects.get(code);
+        if (xObject == null) {
+            xObject = createFormXObject(BarcodeQRCode.encode(code, hints));
+            xObjects.put(code, xObject);
+        }
+        return xObject;
+    }
+
+    /**
+     * Gets the XObjects of the barcodes of the texts, in the order of the texts.
+     *
+     * @param codes the texts to be encoded
+     * @return the XObjects, the same XObject for equal texts
+     */
+    public List<PdfFormXObject> createFormXObjects(List<String> codes) {
+        return createFormXObjects(codes, null);
+    }
+
+    /**
+     * Gets the XObjects of the barcodes of the texts, in the order of the texts.
+     * The texts that were not added to the batch yet are encoded by the executor.
+     *
+     * @param codes    the texts to be encoded
+     * @param executor the executor to encode the texts with. If <CODE>null</CODE>, they are encoded in the calling thread
+     * @return the XObjects, the same XObject for equal texts
+     */
+    public List<PdfFormXObject> createFormXObjects(List<String> codes, ExecutorService executor) {
+        List<PdfFormXObject> result = new ArrayList<>(codes.size());
+        if (executor == null) {
+            for (String code : codes) {
+                result.add(createFormXObject(code));
+            }
+            return result;
+        }
+        Map<String, Future<ByteMatrix>> matrices = new LinkedHashMap<>();
+        for (final String code : codes) {
+            if (!xObjects.containsKey(code) && !matrices.containsKey(code)) {
+                matrices.put(code, executor.submit(new Callable<ByteMatrix>() {
+                    @Override
+                    public ByteMatrix call() {
+                        return BarcodeQRCode.encode(code, hints);
+                    }
+                }));
+            }
+        }
+        for (Map.Entry<String, Future<ByteMatrix>> matrix : matrices.entrySet()) {
+            try {
+                xObjects.put(matrix.getKey(), createFormXObject(matrix.getValue().get()));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        for (String code : codes) {
+            result.add(xObjects.get(code));
+        }
+        return result;
+    }
+
+    private PdfFormXObject createFormXObject(ByteMatrix bm) {
+        PdfFormXObject xObject = new PdfFormXObject((Rectangle) null);
+        PdfCanvas canvas = new PdfCanvas(xObject, document);
+        if (foreground != null) {
+            canvas.setFillColor(foreground);
+        }
+        Barcode2D.addModules(canvas, BarcodeQRCode.getModuleBits(bm), bm.getWidth(), bm.getHeight(),
+                moduleSize, moduleSize);
+        canvas.fill();
+        xObject.setBBox(new PdfArray(new Rectangle(0, 0, bm.getWidth() * moduleSize, bm.getHeight() * moduleSize)));
+        return xObject;
+    }
+}
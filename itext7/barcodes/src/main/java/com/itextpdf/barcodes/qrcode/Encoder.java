@@ -78,6 +78,9 @@ final class Encoder {
 
     static final String DEFAULT_BYTE_MODE_ENCODING = "ISO-8859-1";
 
+    // Shared by all the codes, so that the generator polynomials are only built once per number of EC bytes.
+    private static final ReedSolomonEncoder EC_ENCODER = new ReedSolomonEncoder(GF256.QR_CODE_FIELD);
+
     private Encoder() {
     }
 
@@ -176,14 +179,18 @@ final class Encoder {
         interleaveWithECBytes(headerAndDataBits, qrCode.getNumTotalBytes(), qrCode.getNumDataBytes(),
                 qrCode.getNumRSBlocks(), finalBits);
 
-        // Step 7: Choose the mask pattern and set to "qrCode".
-        ByteMatrix matrix = new ByteMatrix(qrCode.getMatrixWidth(), qrCode.getMatrixWidth());
-        qrCode.setMaskPattern(chooseMaskPattern(finalBits, qrCode.getECLevel(), qrCode.getVersion(),
-                matrix));
+        // Step 7: Choose the mask pattern and set to "qrCode". The data bits are embedded only once,
+        // then masked with every pattern.
+        int matrixWidth = qrCode.getMatrixWidth();
+        ByteMatrix unmaskedMatrix = new ByteMatrix(matrixWidth, matrixWidth);
+        ByteMatrix dataCells = new ByteMatrix(matrixWidth, matrixWidth);
+        MatrixUtil.buildUnmaskedMatrix(finalBits, qrCode.getECLevel(), qrCode.getVersion(), unmaskedMatrix,
+                dataCells);
+        ByteMatrix matrix = new ByteMatrix(matrixWidth, matrixWidth);
+        qrCode.setMaskPattern(chooseMaskPattern(unmaskedMatrix, dataCells, qrCode.getECLevel(), matrix));
 
         // Step 8.  Build the matrix and set it to "qrCode".
-        MatrixUtil.buildMatrix(finalBits, qrCode.getECLevel(), qrCode.getVersion(),
-                qrCode.getMaskPattern(), matrix);
+        MatrixUtil.maskMatrix(unmaskedMatrix, dataCells, qrCode.getECLevel(), qrCode.getMaskPattern(), matrix);
         qrCode.setMatrix(matrix);
         // Step 9.  Make sure we have a valid QR Code.
         if (!qrCode.isValid()) {
@@ -265,7 +272,7 @@ final class Encoder {
         return true;
     }
 
-    private static int chooseMaskPattern(BitVector bits, ErrorCorrectionLevel ecLevel, int version,
+    private static int chooseMaskPattern(ByteMatrix unmaskedMatrix, ByteMatrix dataCells, ErrorCorrectionLevel ecLevel,
                                          ByteMatrix matrix) throws WriterException {
 
         // Lower penalty is better.
@@ -274,7 +281,7 @@ final class Encoder {
 
         // We try all mask patterns to choose the best one.
         for (int maskPattern = 0; maskPattern < QRCode.NUM_MASK_PATTERNS; maskPattern++) {
-            MatrixUtil.buildMatrix(bits, ecLevel, version, maskPattern, matrix);
+            MatrixUtil.maskMatrix(unmaskedMatrix, dataCells, ecLevel, maskPattern, matrix);
             int penalty = calculateMaskPenalty(matrix);
             if (penalty < minPenalty) {
                 minPenalty = penalty;
@@ -490,7 +497,7 @@ final class Encoder {
         for (int i = 0; i < numDataBytes; i++) {
             toEncode[i] = dataBytes.at(i);
         }
-        new ReedSolomonEncoder(GF256.QR_CODE_FIELD).encode(toEncode, numEcBytesInBlock);
+        EC_ENCODER.encode(toEncode, numEcBytesInBlock);
 
         ByteArray ecBytes = new ByteArray(numEcBytesInBlock);
         for (int i = 0; i < numEcBytesInBlock; i++) {
@@ -55,6 +55,7 @@ final class MaskUtil {
     /**
      * Apply mask penalty rule 1 and return the penalty. Find repetitive cells with the same color and
      * give penalty to them. Example: 00000 or 11111.
+     * The cells of the matrix are expected to be either light or dark, i.e. the matrix is complete.
      * @param matrix ByteMatrix to apply the penalty rule to
      * @return the rule 1 penalty
      */
@@ -76,9 +77,11 @@ final class MaskUtil {
         int width = matrix.getWidth();
         int height = matrix.getHeight();
         for (int y = 0; y < height - 1; ++y) {
+            byte[] row = array[y];
+            byte[] nextRow = array[y + 1];
             for (int x = 0; x < width - 1; ++x) {
-                int value = array[y][x];
-                if (value == array[y][x + 1] && value == array[y + 1][x] && value == array[y + 1][x + 1]) {
+                int value = row[x];
+                if (value == row[x + 1] && value == nextRow[x] && value == nextRow[x + 1]) {
                     penalty += 3;
                 }
             }
@@ -90,60 +93,12 @@ final class MaskUtil {
      * Apply mask penalty rule 3 and return the penalty. Find consecutive cells of 00001011101 or
      * 10111010000, and give penalty to them.  If we find patterns like 000010111010000, we give
      * penalties twice (i.e. 40 * 2).
+     * The cells of the matrix are expected to be either light or dark, i.e. the matrix is complete.
      * @param matrix ByteMatrix to apply the penalty rule to
      * @return the rule 3 penalty
      */
     public static int applyMaskPenaltyRule3(ByteMatrix matrix) {
-        int penalty = 0;
-        byte[][] array = matrix.getArray();
-        int width = matrix.getWidth();
-        int height = matrix.getHeight();
-        for (int y = 0; y < height; ++y) {
-            for (int x = 0; x < width; ++x) {
-                // Tried to simplify following conditions but failed.
-                if (x + 6 < width &&
-                        array[y][x] == 1 &&
-                        array[y][x +  1] == 0 &&
-                        array[y][x +  2] == 1 &&
-                        array[y][x +  3] == 1 &&
-                        array[y][x +  4] == 1 &&
-                        array[y][x +  5] == 0 &&
-                        array[y][x +  6] == 1 &&
-                        ((x + 10 < width &&
-                                array[y][x +  7] == 0 &&
-                                array[y][x +  8] == 0 &&
-                                array[y][x +  9] == 0 &&
-                                array[y][x + 10] == 0) ||
-                                (x - 4 >= 0 &&
-                                        array[y][x -  1] == 0 &&
-                                        array[y][x -  2] == 0 &&
-                                        array[y][x -  3] == 0 &&
-                                        array[y][x -  4] == 0))) {
-                    penalty += 40;
-                }
-                if (y + 6 < height &&
-                        array[y][x] == 1  &&
-                        array[y +  1][x] == 0  &&
-                        array[y +  2][x] == 1  &&
-                        array[y +  3][x] == 1  &&
-                        array[y +  4][x] == 1  &&
-                        array[y +  5][x] == 0  &&
-                        array[y +  6][x] == 1 &&
-                        ((y + 10 < height &&
-                                array[y +  7][x] == 0 &&
-                                array[y +  8][x] == 0 &&
-                                array[y +  9][x] == 0 &&
-                                array[y + 10][x] == 0) ||
-                                (y - 4 >= 0 &&
-                                        array[y -  1][x] == 0 &&
-                                        array[y -  2][x] == 0 &&
-                                        array[y -  3][x] == 0 &&
-                                        array[y -  4][x] == 0))) {
-                    penalty += 40;
-                }
-            }
-        }
-        return penalty;
+        return applyMaskPenaltyRule3Internal(matrix, true) + applyMaskPenaltyRule3Internal(matrix, false);
     }
 
 
@@ -167,8 +122,9 @@ final class MaskUtil {
         int width = matrix.getWidth();
         int height = matrix.getHeight();
         for (int y = 0; y < height; ++y) {
+            byte[] row = array[y];
             for (int x = 0; x < width; ++x) {
-                if (array[y][x] == 1) {
+                if (row[x] == 1) {
                     numDarkCells += 1;
                 }
             }
@@ -228,48 +184,69 @@ final class MaskUtil {
     }
 
     // Helper function for applyMaskPenaltyRule1. We need this for doing this calculation in both
-    // vertical and horizontal orders respectively.
+    // vertical and horizontal orders respectively. The matrix is always read row by row: in vertical
+    // order, the state of every column is kept while going down the rows. The last 6 cells of a row or
+    // column are kept in the low bits of its window, the last cell being the lowest bit.
+    //
+    // A run of n >= 5 cells with the same color gives a penalty of 3 for its first five cells, then 1 for
+    // each other cell, i.e. 1 for each of its n - 4 last cells and 2 more for the run itself.
     private static int applyMaskPenaltyRule1Internal(ByteMatrix matrix, boolean isHorizontal) {
         int penalty = 0;
-        int numSameBitCells = 0;
-        int prevBit = -1;
-        // Horizontal mode:
-        //   for (int i = 0; i < matrix.height(); ++i) {
-        //     for (int j = 0; j < matrix.width(); ++j) {
-        //       int bit = matrix.get(i, j);
-        // Vertical mode:
-        //   for (int i = 0; i < matrix.width(); ++i) {
-        //     for (int j = 0; j < matrix.height(); ++j) {
-        //       int bit = matrix.get(j, i);
-        int iLimit = isHorizontal ? matrix.getHeight() : matrix.getWidth();
-        int jLimit = isHorizontal ? matrix.getWidth() : matrix.getHeight();
+        int width = matrix.getWidth();
+        int[] windows = new int[isHorizontal ? matrix.getHeight() : width];
         byte[][] array = matrix.getArray();
-        for (int i = 0; i < iLimit; ++i) {
-            for (int j = 0; j < jLimit; ++j) {
-                int bit = isHorizontal ? array[i][j] : array[j][i];
-                if (bit == prevBit) {
-                    numSameBitCells += 1;
-                    // Found five repetitive cells with the same color (bit).
-                    // We'll give penalty of 3.
-                    if (numSameBitCells == 5) {
-                        penalty += 3;
-                    } else if (numSameBitCells > 5) {
-                        // After five repetitive cells, we'll add the penalty one
-                        // by one.
-                        penalty += 1;
+        for (int y = 0; y < matrix.getHeight(); ++y) {
+            byte[] row = array[y];
+            for (int x = 0; x < width; ++x) {
+                int line = isHorizontal ? y : x;
+                int position = isHorizontal ? x : y;
+                int window = ((windows[line] << 1) | row[x]) & 0x3f;
+                windows[line] = window;
+                int lastCells = window & 0x1f;
+                if (position >= 4 && (lastCells == 0 || lastCells == 0x1f)) {
+                    penalty += 1;
+                    // Five cells with the same color, which are the first ones of the run.
+                    if (position == 4 || window == 0x20 || window == 0x1f) {
+                        penalty += 2;
                     }
-                } else {
-
-                    // Include the cell itself.
-                    numSameBitCells = 1;
-                    prevBit = bit;
                 }
             }
-
-            // Clear at each row/column.
-            numSameBitCells = 0;
         }
         return penalty;
     }
 
+    // Helper function for applyMaskPenaltyRule3, reading the matrix like applyMaskPenaltyRule1Internal,
+    // with windows of 15 cells, so that the patterns are found with a single comparison.
+    private static int applyMaskPenaltyRule3Internal(ByteMatrix matrix, boolean isHorizontal) {
+        int numPatterns = 0;
+        int width = matrix.getWidth();
+        int[] windows = new int[isHorizontal ? matrix.getHeight() : width];
+        byte[][] array = matrix.getArray();
+        for (int y = 0; y < matrix.getHeight(); ++y) {
+            byte[] row = array[y];
+            for (int x = 0; x < width; ++x) {
+                int line = isHorizontal ? y : x;
+                int position = isHorizontal ? x : y;
+                int window = ((windows[line] << 1) | row[x]) & 0x7fff;
+                windows[line] = window;
+                if (position < 10) {
+                    continue;
+                }
+                // 0000 1011101 ends here: the pattern starts 6 cells before and is preceded by four light cells.
+                if ((window & 0x7ff) == 0x05d) {
+                    ++numPatterns;
+                }
+                // 1011101 0000 ends here: the pattern starts 10 cells before and is followed by four light cells.
+                if ((window & 0x7ff) == 0x5d0) {
+                    ++numPatterns;
+                    // 0000 1011101 0000: the very same pattern, which was already counted above, four cells ago.
+                    if (position >= 14 && window == 0x05d0) {
+                        --numPatterns;
+                    }
+                }
+            }
+        }
+        return numPatterns * 40;
+    }
+
 }
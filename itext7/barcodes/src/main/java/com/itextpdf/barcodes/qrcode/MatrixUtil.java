@@ -259,6 +259,70 @@ final class MatrixUtil {
         embedDataBits(dataBits, maskPattern, matrix);
     }
 
+    /**
+     * Build 2D matrix of QR Code from "dataBits" with "ecLevel" and "version", leaving the data bits
+     * unmasked. The cells of the data bits are set to 1 in "dataCells". A masked matrix, the same one
+     * that {@link #buildMatrix} builds, is then obtained with {@link #maskMatrix} without embedding
+     * the data bits again.
+     *
+     * @param dataBits  BitVector containing the databits
+     * @param ecLevel   Error correction level of the QR code (L,M,Q,H)
+     * @param version   Version of the QR code, [1 .. 40]
+     * @param matrix    Bytematrix in which the unmasked matrix will be stored
+     * @param dataCells Bytematrix of the same size in which the cells of the data bits will be marked
+     */
+    static void buildUnmaskedMatrix(BitVector dataBits, ErrorCorrectionLevel ecLevel, int version,
+                                    ByteMatrix matrix, ByteMatrix dataCells) throws WriterException {
+        clearMatrix(matrix);
+        embedBasicPatterns(version, matrix);
+        // Only reserves the cells of the type information, which depends on the mask pattern.
+        embedTypeInfo(ecLevel, 0, matrix);
+        maybeEmbedVersionInfo(version, matrix);
+        byte[][] array = matrix.getArray();
+        for (int y = 0; y < matrix.getHeight(); ++y) {
+            for (int x = 0; x < matrix.getWidth(); ++x) {
+                dataCells.set(x, y, isEmpty(array[y][x]) ? 1 : 0);
+            }
+        }
+        embedDataBits(dataBits, -1, matrix);
+    }
+
+    /**
+     * Mask the data bits of a matrix built by {@link #buildUnmaskedMatrix} with "maskPattern" and embed
+     * the type information. On success, store the result in "matrix".
+     *
+     * @param unmaskedMatrix the matrix with unmasked data bits
+     * @param dataCells      the cells of the data bits, as marked by {@link #buildUnmaskedMatrix}
+     * @param ecLevel        Error correction level of the QR code (L,M,Q,H)
+     * @param maskPattern    masking pattern
+     * @param matrix         Bytematrix in which the output will be stored
+     */
+    static void maskMatrix(ByteMatrix unmaskedMatrix, ByteMatrix dataCells, ErrorCorrectionLevel ecLevel,
+                           int maskPattern, ByteMatrix matrix) throws WriterException {
+        byte[][] unmasked = unmaskedMatrix.getArray();
+        byte[][] data = dataCells.getArray();
+        byte[][] masked = matrix.getArray();
+        int width = matrix.getWidth();
+        byte[] maskRow = new byte[width];
+        for (int y = 0; y < matrix.getHeight(); ++y) {
+            // All the mask patterns repeat every 6 cells horizontally.
+            for (int x = 0; x < width; ++x) {
+                if (x < 6) {
+                    maskRow[x] = (byte) (MaskUtil.getDataMaskBit(maskPattern, x, y) ? 1 : 0);
+                } else {
+                    maskRow[x] = maskRow[x - 6];
+                }
+            }
+            byte[] unmaskedRow = unmasked[y];
+            byte[] dataRow = data[y];
+            byte[] row = masked[y];
+            for (int x = 0; x < width; ++x) {
+                row[x] = (byte) (unmaskedRow[x] ^ (dataRow[x] & maskRow[x]));
+            }
+        }
+        embedTypeInfo(ecLevel, maskPattern, matrix);
+    }
+
     /**
      * Embed basic patterns. On success, modify the matrix.
      * The basic patterns are:
@@ -436,12 +500,7 @@ final class MatrixUtil {
      * @return the position of the most significant bit set to 1 in the bit-representation of value
      */
     public static int findMSBSet(int value) {
-        int numDigits = 0;
-        while (value != 0) {
-            value >>>= 1;
-            ++numDigits;
-        }
-        return numDigits;
+        return 32 - Integer.numberOfLeadingZeros(value);
     }
 
     /**
@@ -72,7 +72,7 @@ final class ReedSolomonEncoder {
         cachedGenerators.add(new GF256Poly(field, new int[] { 1 }));
     }
 
-    private GF256Poly buildGenerator(int degree) {
+    private synchronized GF256Poly buildGenerator(int degree) {
         if (degree >= cachedGenerators.size()) {
             GF256Poly lastGenerator = cachedGenerators.get(cachedGenerators.size() - 1);
             for (int d = cachedGenerators.size(); d <= degree; d++) {
@@ -98,18 +98,21 @@ final class ReedSolomonEncoder {
         if (dataBytes <= 0) {
             throw new IllegalArgumentException("No data bytes provided");
         }
-        GF256Poly generator = buildGenerator(ecBytes);
-        int[] infoCoefficients = new int[dataBytes];
-        System.arraycopy(toEncode, 0, infoCoefficients, 0, dataBytes);
-        GF256Poly info = new GF256Poly(field, infoCoefficients);
-        info = info.multiplyByMonomial(ecBytes, 1);
-        GF256Poly remainder = info.divide(generator)[1];
-        int[] coefficients = remainder.getCoefficients();
-        int numZeroCoefficients = ecBytes - coefficients.length;
-        for (int i = 0; i < numZeroCoefficients; i++) {
-            toEncode[dataBytes + i] = 0;
+        int[] generator = buildGenerator(ecBytes).getCoefficients();
+        // The remainder of the division of the data, shifted by ecBytes, by the generator polynomial,
+        // computed in place with the generator kept monic, i.e. generator[0] == 1.
+        int[] remainder = new int[ecBytes];
+        for (int i = 0; i < dataBytes; i++) {
+            int factor = toEncode[i] ^ remainder[0];
+            System.arraycopy(remainder, 1, remainder, 0, ecBytes - 1);
+            remainder[ecBytes - 1] = 0;
+            if (factor != 0) {
+                for (int j = 0; j < ecBytes; j++) {
+                    remainder[j] ^= field.multiply(generator[j + 1], factor);
+                }
+            }
         }
-        System.arraycopy(coefficients, 0, toEncode, dataBytes + numZeroCoefficients, coefficients.length);
+        System.arraycopy(remainder, 0, toEncode, dataBytes, ecBytes);
     }
 
 }
@@ -43,12 +43,14 @@
 package com.itextpdf.barcodes;
 
 
+import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.kernel.PdfException;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfPage;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.kernel.utils.CompareTool;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.IntegrationTest;
@@ -285,4 +287,35 @@ public class BarcodeDataMatrixTest extends ExtendedITextTest {
 
         Assert.assertNull(new CompareTool().compareByContent(destinationFolder + filename, sourceFolder + "cmp_" + filename, destinationFolder));
     }
+
+    @Test
+    public void imageFormXObjectTest() {
+        PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        BarcodeDataMatrix barcode = new BarcodeDataMatrix();
+        barcode.setWs(1);
+        barcode.setCode("Barcode drawn as an image mask");
+        PdfFormXObject xObject = barcode.createImageFormXObject(ColorConstants.BLUE, 2, document);
+
+        int columns = barcode.getWidth() + 2;
+        int rows = barcode.getHeight() + 2;
+        boolean[][] painted = ImageMaskTestUtil.getPaintedModules(columns, rows, xObject);
+        for (int x = 0; x < columns; ++x) {
+            // quiet zone
+            Assert.assertFalse(painted[0][x]);
+            Assert.assertFalse(painted[rows - 1][x]);
+        }
+        for (int y = 0; y < rows; ++y) {
+            Assert.assertFalse(painted[y][0]);
+            Assert.assertFalse(painted[y][columns - 1]);
+        }
+        // the finder pattern: solid left and bottom edges, alternating top and right edges
+        for (int y = 1; y < rows - 1; ++y) {
+            Assert.assertTrue(painted[y][1]);
+            Assert.assertEquals(y % 2 == 0, painted[y][columns - 2]);
+        }
+        for (int x = 1; x < columns - 1; ++x) {
+            Assert.assertTrue(painted[rows - 2][x]);
+            Assert.assertEquals(x % 2 == 1, painted[1][x]);
+        }
+    }
 }
@@ -42,6 +42,7 @@
  */
 package com.itextpdf.barcodes;
 
+import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.kernel.PdfException;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.pdf.PdfDocument;
@@ -59,6 +60,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 @Category(IntegrationTest.class)
 public class BarcodePDF417Test extends ExtendedITextTest {
@@ -146,4 +148,34 @@ public class BarcodePDF417Test extends ExtendedITextTest {
         return pf.createFormXObject(ColorConstants.BLACK, mw, mh, document);
     }
 
+    @Test
+    public void placeBarcodeMergesModulesTest() {
+        PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        BarcodePDF417 barcode = new BarcodePDF417();
+        barcode.setCode("Merged module runs keep the content stream small");
+        PdfFormXObject xObject = barcode.createFormXObject(null, 2, 6, document);
+
+        int darkModules = 0;
+        for (byte b : barcode.getOutBits()) {
+            darkModules += Integer.bitCount(b & 0xff);
+        }
+        String content = new String(xObject.getPdfObject().getBytes(), StandardCharsets.ISO_8859_1);
+        int rectangles = content.split(" re").length - 1;
+        Assert.assertTrue(rectangles > 0);
+        Assert.assertTrue(rectangles < darkModules / 2);
+    }
+
+    @Test
+    public void imageFormXObjectTest() {
+        PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        BarcodePDF417 barcode = new BarcodePDF417();
+        barcode.setCode("Barcode drawn as an image mask");
+        PdfFormXObject xObject = barcode.createImageFormXObject(ColorConstants.BLUE, 2, 6, document);
+
+        Assert.assertEquals(barcode.getBitColumns() * 2, xObject.getWidth(), 0);
+        Assert.assertEquals(barcode.getCodeRows() * 6, xObject.getHeight(), 0);
+        ImageMaskTestUtil.assertPaintedModules(barcode.getOutBits(), barcode.getBitColumns(), barcode.getCodeRows(),
+                xObject);
+    }
+
 }
@@ -0,0 +1,110 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.barcodes;
+
+import com.itextpdf.barcodes.qrcode.EncodeHintType;
+import com.itextpdf.barcodes.qrcode.ErrorCorrectionLevel;
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class BarcodeQRCodeBatchTest extends ExtendedITextTest {
+
+    @Test
+    public void equalCodesShareFormXObjectTest() {
+        PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        BarcodeQRCodeBatch batch = new BarcodeQRCodeBatch(document, null, null, 1);
+
+        List<PdfFormXObject> xObjects = batch.createFormXObjects(Arrays.asList("ticket 1", "ticket 2", "ticket 1"));
+
+        Assert.assertEquals(3, xObjects.size());
+        Assert.assertSame(xObjects.get(0), xObjects.get(2));
+        Assert.assertNotSame(xObjects.get(0), xObjects.get(1));
+        Assert.assertSame(xObjects.get(1), batch.createFormXObject("ticket 2"));
+    }
+
+    @Test
+    public void sameFormXObjectsAsBarcodeQRCodeTest() throws InterruptedException {
+        Map<EncodeHintType, Object> hints = new HashMap<>();
+        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.Q);
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            codes.add("https://example.com/tickets/" + (i % 40) * 7919);
+        }
+
+        PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        BarcodeQRCodeBatch batch = new BarcodeQRCodeBatch(document, hints, ColorConstants.BLUE, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<PdfFormXObject> xObjects;
+        try {
+            xObjects = batch.createFormXObjects(codes, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(codes.size(), xObjects.size());
+        for (int i = 0; i < codes.size(); i++) {
+            PdfFormXObject expected = new BarcodeQRCode(codes.get(i), hints)
+                    .createFormXObject(ColorConstants.BLUE, 2, document);
+            Assert.assertArrayEquals(expected.getPdfObject().getBytes(), xObjects.get(i).getPdfObject().getBytes());
+            Assert.assertEquals(expected.getBBox().toString(), xObjects.get(i).getBBox().toString());
+        }
+    }
+}
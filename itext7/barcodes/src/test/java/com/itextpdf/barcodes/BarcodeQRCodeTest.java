@@ -42,14 +42,17 @@
  */
 package com.itextpdf.barcodes;
 
+import com.itextpdf.barcodes.qrcode.ByteMatrix;
 import com.itextpdf.barcodes.qrcode.EncodeHintType;
 import com.itextpdf.barcodes.qrcode.ErrorCorrectionLevel;
+import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.kernel.PdfException;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfPage;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.kernel.utils.CompareTool;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.IntegrationTest;
@@ -127,4 +130,16 @@ public class BarcodeQRCodeTest extends ExtendedITextTest {
 
     }
 
+    @Test
+    public void imageFormXObjectTest() {
+        String code = "Barcode drawn as an image mask";
+        PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        BarcodeQRCode barcode = new BarcodeQRCode(code);
+        PdfFormXObject xObject = barcode.createImageFormXObject(ColorConstants.BLUE, 2, document);
+
+        ByteMatrix bm = BarcodeQRCode.encode(code, null);
+        Assert.assertEquals(bm.getWidth() * 2, xObject.getWidth(), 0);
+        Assert.assertEquals(bm.getHeight() * 2, xObject.getHeight(), 0);
+        ImageMaskTestUtil.assertPaintedModules(BarcodeQRCode.getModuleBits(bm), bm.getWidth(), bm.getHeight(), xObject);
+    }
 }
@@ -0,0 +1,100 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.barcodes;
+
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfBoolean;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfStream;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import org.junit.Assert;
+
+final class ImageMaskTestUtil {
+
+    private ImageMaskTestUtil() {
+    }
+
+    /**
+     * Decodes the image mask drawn by a barcode form XObject and checks that the painted samples
+     * are exactly the set bits of the expected bitmap, which has one bit per module and rows starting at a new byte.
+     */
+    static void assertPaintedModules(byte[] expectedBits, int columns, int rows, PdfFormXObject xObject) {
+        boolean[][] painted = getPaintedModules(columns, rows, xObject);
+        int stride = (columns + 7) / 8;
+        for (int y = 0; y < rows; ++y) {
+            for (int x = 0; x < columns; ++x) {
+                boolean dark = (expectedBits[y * stride + x / 8] & (0x80 >> (x % 8))) != 0;
+                Assert.assertEquals("module " + x + ", " + y, dark, painted[y][x]);
+            }
+        }
+    }
+
+    /**
+     * Decodes the image mask drawn by a barcode form XObject.
+     *
+     * @return whether the sample is painted, by row from top to bottom and column
+     */
+    static boolean[][] getPaintedModules(int columns, int rows, PdfFormXObject xObject) {
+        PdfDictionary images = xObject.getResources().getResource(PdfName.XObject);
+        Assert.assertEquals(1, images.size());
+        PdfStream image = images.getAsStream(images.keySet().iterator().next());
+        Assert.assertEquals(PdfBoolean.TRUE, image.getAsBoolean(PdfName.ImageMask));
+        Assert.assertEquals(columns, image.getAsNumber(PdfName.Width).intValue());
+        Assert.assertEquals(rows, image.getAsNumber(PdfName.Height).intValue());
+
+        // an image mask paints the samples which are decoded to 0, i.e. the 1 samples if the decode array is [1 0]
+        PdfArray decode = image.getAsArray(PdfName.Decode);
+        boolean paintedIs1 = decode != null && decode.getAsNumber(0).intValue() == 1;
+        byte[] samples = image.getBytes(true);
+        int stride = (columns + 7) / 8;
+        Assert.assertEquals(stride * rows, samples.length);
+        boolean[][] painted = new boolean[rows][columns];
+        for (int y = 0; y < rows; ++y) {
+            for (int x = 0; x < columns; ++x) {
+                painted[y][x] = ((samples[y * stride + x / 8] & (0x80 >> (x % 8))) != 0) == paintedIs1;
+            }
+        }
+        return painted;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.barcodes.qrcode;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class MaskUtilTest extends ExtendedITextTest {
+
+    @Test
+    public void applyMaskPenaltyRule1Test() {
+        Assert.assertEquals(0, MaskUtil.applyMaskPenaltyRule1(createRow(0, 0, 0, 1)));
+        Assert.assertEquals(3, MaskUtil.applyMaskPenaltyRule1(createRow(0, 0, 0, 0, 0, 1)));
+        Assert.assertEquals(4, MaskUtil.applyMaskPenaltyRule1(createRow(0, 0, 0, 0, 0, 0)));
+        Assert.assertEquals(7, MaskUtil.applyMaskPenaltyRule1(createRow(1, 1, 1, 1, 1, 0, 0, 0, 0, 0, 0)));
+        Assert.assertEquals(4, MaskUtil.applyMaskPenaltyRule1(createColumn(1, 1, 1, 1, 1, 1)));
+    }
+
+    @Test
+    public void applyMaskPenaltyRule2Test() {
+        ByteMatrix matrix = new ByteMatrix(3, 3);
+        Assert.assertEquals(12, MaskUtil.applyMaskPenaltyRule2(matrix));
+        matrix.set(1, 1, 1);
+        Assert.assertEquals(0, MaskUtil.applyMaskPenaltyRule2(matrix));
+    }
+
+    @Test
+    public void applyMaskPenaltyRule3Test() {
+        Assert.assertEquals(40, MaskUtil.applyMaskPenaltyRule3(createRow(0, 0, 0, 0, 1, 0, 1, 1, 1, 0, 1)));
+        Assert.assertEquals(40, MaskUtil.applyMaskPenaltyRule3(createRow(1, 0, 1, 1, 1, 0, 1, 0, 0, 0, 0)));
+        Assert.assertEquals(40, MaskUtil.applyMaskPenaltyRule3(
+                createRow(0, 0, 0, 0, 1, 0, 1, 1, 1, 0, 1, 0, 0, 0, 0)));
+        Assert.assertEquals(0, MaskUtil.applyMaskPenaltyRule3(createRow(0, 0, 0, 1, 0, 1, 1, 1, 0, 1, 0, 0, 0)));
+        Assert.assertEquals(40, MaskUtil.applyMaskPenaltyRule3(createColumn(1, 0, 1, 1, 1, 0, 1, 0, 0, 0, 0)));
+    }
+
+    @Test
+    public void applyMaskPenaltyRule4Test() {
+        Assert.assertEquals(0, MaskUtil.applyMaskPenaltyRule4(createRow(0, 1)));
+        Assert.assertEquals(30, MaskUtil.applyMaskPenaltyRule4(createRow(0, 1, 1, 1, 1, 0)));
+    }
+
+    @Test
+    public void maskedMatrixTest() throws WriterException {
+        BitVector dataBits = new BitVector();
+        for (int i = 0; i < 208; i++) {
+            dataBits.appendBit((i * 7 + i / 5) & 1);
+        }
+        ByteMatrix unmasked = new ByteMatrix(21, 21);
+        ByteMatrix dataCells = new ByteMatrix(21, 21);
+        MatrixUtil.buildUnmaskedMatrix(dataBits, ErrorCorrectionLevel.H, 1, unmasked, dataCells);
+        for (int maskPattern = 0; maskPattern < QRCode.NUM_MASK_PATTERNS; maskPattern++) {
+            ByteMatrix expected = new ByteMatrix(21, 21);
+            MatrixUtil.buildMatrix(dataBits, ErrorCorrectionLevel.H, 1, maskPattern, expected);
+            ByteMatrix masked = new ByteMatrix(21, 21);
+            MatrixUtil.maskMatrix(unmasked, dataCells, ErrorCorrectionLevel.H, maskPattern, masked);
+            Assert.assertEquals(expected.toString(), masked.toString());
+        }
+    }
+
+    private static ByteMatrix createRow(int... cells) {
+        ByteMatrix matrix = new ByteMatrix(cells.length, 1);
+        for (int x = 0; x < cells.length; x++) {
+            matrix.set(x, 0, cells[x]);
+        }
+        return matrix;
+    }
+
+    private static ByteMatrix createColumn(int... cells) {
+        ByteMatrix matrix = new ByteMatrix(1, cells.length);
+        for (int y = 0; y < cells.length; y++) {
+            matrix.set(0, y, cells[y]);
+        }
+        return matrix;
+    }
+}
@@ -135,6 +135,11 @@ public class Base64 {
      */
     private static final byte NEW_LINE = (byte) '\n';
 
+    /**
+     * Maximal number of groups of three bytes encoded at once by {@link Base64.OutputStream}.
+     */
+    private static final int CHUNK_GROUPS = 2048;
+
 
     /**
      * Preferred encoding.
@@ -1293,6 +1298,7 @@ public class Base64 {
         private int options;        // Record options used to create the stream.
         private byte[] alphabet;        // Local copies to avoid extra method calls
         private byte[] decodabet;        // Local copies to avoid extra method calls
+        private byte[] scratch;         // Reused for the bytes read from the underlying stream
 
 
         /**
@@ -1337,6 +1343,7 @@ public class Base64 {
             this.options = options; // Record for later, mostly to determine which alphabet to use
             this.alphabet = getAlphabet(options);
             this.decodabet = getDecodabet(options);
+            this.scratch = new byte[4];
         }   // end constructor
 
         /**
@@ -1350,7 +1357,7 @@ public class Base64 {
             // Do we need to get data?
             if (position < 0) {
                 if (encode) {
-                    byte[] b3 = new byte[3];
+                    byte[] b3 = scratch;
                     int numBinaryBytes = 0;
                     for (int i = 0; i < 3; i++) {
                         try {
@@ -1383,7 +1390,7 @@ public class Base64 {
 
                 // Else decoding
                 else {
-                    byte[] b4 = new byte[4];
+                    byte[] b4 = scratch;
                     int i = 0;
                     for (i = 0; i < 4; i++) {
                         // Read four "meaningful" bytes:
@@ -1620,10 +1627,52 @@ public class Base64 {
                 return;
             }   // end if: supsended
 
-            for (int i = 0; i < len; i++) {
-                write(theBytes[off + i]);
-            }   // end for: each byte written
+            if (!encode) {
+                for (int i = 0; i < len; i++) {
+                    write(theBytes[off + i]);
+                }   // end for: each byte written
+                return;
+            }   // end if: decoding
+
+            int end = off + len;
+            // Complete the group of the previous write first.
+            while (position > 0 && off < end) {
+                write(theBytes[off++]);
+            }   // end while: group not complete
+
+            // Then encode the whole groups into a chunk written at once.
+            if (end - off >= 3) {
+                byte[] chunk = new byte[Math.min((end - off) / 3, CHUNK_GROUPS) * 4 * (MAX_LINE_LENGTH + 1) / MAX_LINE_LENGTH + 1];
+                byte[] alphabet = this.alphabet;
+                int lineLength = this.lineLength;
+                int e = 0;
+                for (; end - off >= 3; off += 3) {
+                    int inBuff = ((theBytes[off] & 0xff) << 16) | ((theBytes[off + 1] & 0xff) << 8) | (theBytes[off + 2] & 0xff);
+                    chunk[e] = alphabet[inBuff >>> 18];
+                    chunk[e + 1] = alphabet[(inBuff >>> 12) & 0x3f];
+                    chunk[e + 2] = alphabet[(inBuff >>> 6) & 0x3f];
+                    chunk[e + 3] = alphabet[inBuff & 0x3f];
+                    e += 4;
+
+                    lineLength += 4;
+                    if (breakLines && lineLength >= MAX_LINE_LENGTH) {
+                        chunk[e++] = NEW_LINE;
+                        lineLength = 0;
+                    }   // end if: end of line
 
+                    if (e > chunk.length - 5) {
+                        out.write(chunk, 0, e);
+                        e = 0;
+                    }   // end if: chunk full
+                }   // end for: each whole group
+                out.write(chunk, 0, e);
+                this.lineLength = lineLength;
+            }   // end if: whole groups
+
+            // Keep the rest for the next write.
+            while (off < end) {
+                write(theBytes[off++]);
+            }   // end while: rest of the bytes
         }   // end write
 
 
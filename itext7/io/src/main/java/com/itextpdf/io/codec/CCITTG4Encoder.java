@@ -52,8 +52,9 @@ public class CCITTG4Encoder {
 
     private int rowbytes;
     private int rowpixels;
-    private int bit = 8;
-    private int data;
+    // pending output bits, the lowest bitCount bits of bitBuffer are not written yet
+    private int bitBuffer;
+    private int bitCount;
     private byte[] refline;
     private ByteBuffer outBuf = new ByteBuffer(1024);
     private byte[] dataBp;
@@ -138,19 +139,12 @@ public class CCITTG4Encoder {
     }
 
     private void putBits(int bits, int length) {
-        while (length > bit) {
-            data |= bits >> (length - bit);
-            length -= bit;
-            outBuf.append((byte)data);
-            data = 0;
-            bit = 8;
-        }
-        data |= (bits & msbmask[length]) << (bit - length);
-        bit -= length;
-        if (bit == 0) {
-            outBuf.append((byte)data);
-            data = 0;
-            bit = 8;
+        // codes are at most 13 bits long, so the pending bits always fit into the int
+        bitBuffer = (bitBuffer << length) | (bits & ((1 << length) - 1));
+        bitCount += length;
+        while (bitCount >= 8) {
+            bitCount -= 8;
+            outBuf.append((byte) (bitBuffer >>> bitCount));
         }
     }
 
@@ -185,19 +179,20 @@ public class CCITTG4Encoder {
             }
             if (a0 >= rowpixels)
                 break;
-            a1 = finddiff(dataBp, offsetData, a0, rowpixels, pixel(dataBp, offsetData,a0));
-            b1 = finddiff(refline, 0, a0, rowpixels, pixel(dataBp, offsetData,a0) ^ 1);
-            b1 = finddiff(refline, 0, b1, rowpixels, pixel(dataBp, offsetData,a0));
+            int color = pixel(dataBp, offsetData, a0);
+            a1 = finddiff(dataBp, offsetData, a0, rowpixels, color);
+            b1 = finddiff(refline, 0, a0, rowpixels, color ^ 1);
+            b1 = finddiff(refline, 0, b1, rowpixels, color);
         }
     }
 
     private void Fax4PostEncode() {
         putBits(EOL, 12);
         putBits(EOL, 12);
-        if (bit != 8) {
-            outBuf.append((byte)data);
-            data = 0;
-            bit = 8;
+        if (bitCount > 0) {
+            outBuf.append((byte) (bitBuffer << (8 - bitCount)));
+            bitBuffer = 0;
+            bitCount = 0;
         }
     }
 
@@ -354,7 +349,7 @@ public class CCITTG4Encoder {
     private static final int G3CODE_EOF = -3;     /* end of input data */
     private static final int G3CODE_INCOMP = -4;  /* incomplete run code */
 
-    private int[][] TIFFFaxWhiteCodes = {
+    private static final int[][] TIFFFaxWhiteCodes = {
             { 8, 0x35, 0 },	/* 0011 0101 */
             { 6, 0x7, 1 },	/* 0001 11 */
             { 4, 0x7, 2 },	/* 0111 */
@@ -466,7 +461,7 @@ public class CCITTG4Encoder {
             { 12, 0x0, G3CODE_INVALID }	/* 0000 0000 0000 */
     };
 
-    private int[][] TIFFFaxBlackCodes = {
+    private static final int[][] TIFFFaxBlackCodes = {
             { 10, 0x37, 0 },	/* 0000 1101 11 */
             { 3, 0x2, 1 },	/* 010 */
             { 2, 0x3, 2 },	/* 11 */
@@ -578,11 +573,11 @@ public class CCITTG4Encoder {
             { 12, 0x0, G3CODE_INVALID }	/* 0000 0000 0000 */
     };
 
-    private int[] horizcode =
+    private static final int[] horizcode =
             { 3, 0x1, 0 };		/* 001 */
-    private int[] passcode =
+    private static final int[] passcode =
             { 4, 0x1, 0 };		/* 0001 */
-    private int[][] vcodes = {
+    private static final int[][] vcodes = {
             { 7, 0x03, 0 },	/* 0000 011 */
             { 6, 0x03, 0 },	/* 0000 11 */
             { 3, 0x03, 0 },	/* 011 */
@@ -591,6 +586,4 @@ public class CCITTG4Encoder {
             { 6, 0x02, 0 },	/* 0000 10 */
             { 7, 0x02, 0 }		/* 0000 010 */
     };
-    private int[] msbmask =
-            { 0x00, 0x01, 0x03, 0x07, 0x0f, 0x1f, 0x3f, 0x7f, 0xff };
 }
@@ -52,8 +52,10 @@ import java.io.EOFException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A class representing an Image File Directory (IFD) from a TIFF 6.0
@@ -693,6 +695,22 @@ public class TIFFDirectory implements Serializable {
      */
     public static int getNumDirectories(RandomAccessFileOrArray stream)
             throws java.io.IOException {
+        return getDirectoryOffsets(stream).length;
+    }
+
+    /**
+     * Returns the offsets of the image directories (subimages) stored in a
+     * given TIFF file, in the order of the directory chain. A directory can
+     * then be read with {@link #TIFFDirectory(RandomAccessFileOrArray, long, int)}
+     * without walking the chain again.
+     *
+     * @param stream       RandomAccessFileOrArray
+     * @return             The offsets of the image directories stored
+     *                     in a given TIFF file
+     * @throws java.io.IOException
+     */
+    public static long[] getDirectoryOffsets(RandomAccessFileOrArray stream)
+            throws java.io.IOException {
 
         // Save stream pointer
         long pointer = stream.getPosition();
@@ -711,25 +729,30 @@ public class TIFFDirectory implements Serializable {
         stream.seek(4L);
         long offset = readUnsignedInt(stream, isBigEndian);
 
-        int numDirectories = 0;
-        while (offset != 0L) {
-            ++numDirectories;
-
+        List<Long> offsets = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        // a chain which links back to an already read directory is corrupted, stop there
+        while (offset != 0L && visited.add(offset)) {
             // EOFException means IFD was probably not properly terminated.
             try {
                 stream.seek(offset);
                 int entries = readUnsignedShort(stream, isBigEndian);
                 stream.skip(12 * entries);
-                offset = readUnsignedInt(stream, isBigEndian);
+                long nextOffset = readUnsignedInt(stream, isBigEndian);
+                offsets.add(offset);
+                offset = nextOffset;
             } catch (EOFException eof) {
-                numDirectories--;
                 break;
             }
         }
 
         // Reset stream pointer
         stream.seek(pointer);
-        return numDirectories;
+        long[] result = new long[offsets.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (long) offsets.get(i);
+        }
+        return result;
     }
 
     /**
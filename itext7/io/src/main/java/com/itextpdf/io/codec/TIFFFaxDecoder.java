@@ -47,6 +47,8 @@ package com.itextpdf.io.codec;
 
 import com.itextpdf.io.IOException;
 
+import java.util.Arrays;
+
 /**
  * Class that can decode TIFF files.
  */
@@ -1219,40 +1221,33 @@ public class TIFFFaxDecoder {
     private void setToBlack(byte[] buffer,
                             int lineOffset, int bitOffset,
                             int numBits) {
+        if (numBits <= 0) {
+            return;
+        }
         int bitNum = 8 * lineOffset + bitOffset;
-        int lastBit = bitNum + numBits;
+        int lastBit = bitNum + numBits - 1;
 
         int byteNum = bitNum >> 3;
+        int lastByteNum = lastBit >> 3;
+        int firstMask = 0xff >>> (bitNum & 0x7);
+        int lastMask = (0xff00 >>> ((lastBit & 0x7) + 1)) & 0xff;
 
-        // Handle bits in first byte
-        int shift = bitNum & 0x7;
-        if (shift > 0) {
-            int maskVal = 1 << (7 - shift);
-            byte val = buffer[byteNum];
-            while (maskVal > 0 && bitNum < lastBit) {
-                val |= (byte) maskVal;
-                maskVal >>= 1;
-                ++bitNum;
-            }
-            buffer[byteNum] = val;
+        if (byteNum == lastByteNum) {
+            setBits(buffer, byteNum, firstMask & lastMask);
+            return;
         }
 
-        // Fill in 8 bits at a time
-        byteNum = bitNum >> 3;
-        while (bitNum < lastBit - 7) {
-            buffer[byteNum++] = (byte) 255;
-            bitNum += 8;
-        }
+        // Partial first byte, whole bytes in between and partial last byte
+        setBits(buffer, byteNum, firstMask);
+        Arrays.fill(buffer, byteNum + 1, lastByteNum, (byte) 0xff);
+        setBits(buffer, lastByteNum, lastMask);
+    }
 
-        // Fill in remaining bits
-        while (bitNum < lastBit) {
-            byteNum = bitNum >> 3;
-            if (recoverFromImageError && !(byteNum < buffer.length)) {
-                // do nothing
-            } else {
-                buffer[byteNum] |= (byte) (1 << (7 - (bitNum & 0x7)));
-            }
-            ++bitNum;
+    private void setBits(byte[] buffer, int byteNum, int mask) {
+        if (recoverFromImageError && !(byteNum < buffer.length)) {
+            // do nothing
+        } else {
+            buffer[byteNum] |= (byte) mask;
         }
     }
 
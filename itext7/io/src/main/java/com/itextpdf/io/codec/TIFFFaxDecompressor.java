@@ -47,6 +47,8 @@ package com.itextpdf.io.codec;
 
 import com.itextpdf.io.IOException;
 
+import java.util.Arrays;
+
 /**
  * Class that can decompress TIFF files.
  */
@@ -1210,38 +1212,27 @@ public class TIFFFaxDecompressor {
     }
 
     private void setToBlack(int bitNum, int numBits) {
+        if (numBits <= 0) {
+            return;
+        }
         // bitNum is relative to current scanline so bump it by lineBitNum
         bitNum += lineBitNum;
 
-        int lastBit = bitNum + numBits;
+        int lastBit = bitNum + numBits - 1;
         int byteNum = bitNum >> 3;
+        int lastByteNum = lastBit >> 3;
+        int firstMask = 0xff >>> (bitNum & 0x7);
+        int lastMask = (0xff00 >>> ((lastBit & 0x7) + 1)) & 0xff;
 
-        // Handle bits in first byte
-        int shift = bitNum & 0x7;
-        if (shift > 0) {
-            int maskVal = 1 << (7 - shift);
-            byte val = buffer[byteNum];
-            while (maskVal > 0 && bitNum < lastBit) {
-                val |= (byte) maskVal;
-                maskVal >>= 1;
-                ++bitNum;
-            }
-            buffer[byteNum] = val;
-        }
-
-        // Fill in 8 bits at a time
-        byteNum = bitNum >> 3;
-        while (bitNum < lastBit - 7) {
-            buffer[byteNum++] = (byte) 255;
-            bitNum += 8;
+        if (byteNum == lastByteNum) {
+            buffer[byteNum] |= (byte) (firstMask & lastMask);
+            return;
         }
 
-        // Fill in remaining bits
-        while (bitNum < lastBit) {
-            byteNum = bitNum >> 3;
-            buffer[byteNum] |= (byte) (1 << (7 - (bitNum & 0x7)));
-            ++bitNum;
-        }
+        // Partial first byte, whole bytes in between and partial last byte
+        buffer[byteNum] |= (byte) firstMask;
+        Arrays.fill(buffer, byteNum + 1, lastByteNum, (byte) 0xff);
+        buffer[lastByteNum] |= (byte) lastMask;
     }
 
     // Returns run length
@@ -749,8 +749,19 @@ final class Decode {
           int dst = state.pos;
           int copyLength = state.copyLength - state.j;
           if ((src + copyLength < ringBufferMask) && (dst + copyLength < ringBufferMask)) {
-            for (int k = 0; k < copyLength; ++k) {
-              ringBuffer[dst++] = ringBuffer[src++];
+            if (src > dst || dst - src >= copyLength) {
+              // Regions do not overlap in a way that matters for a forward copy.
+              System.arraycopy(ringBuffer, src, ringBuffer, dst, copyLength);
+            } else {
+              // Short distance: the copied bytes repeat with period (dst - src), so copy
+              // the already written prefix in chunks that double in size.
+              int remaining = copyLength;
+              while (remaining > 0) {
+                int chunk = Math.min(remaining, dst - src);
+                System.arraycopy(ringBuffer, src, ringBuffer, dst, chunk);
+                dst += chunk;
+                remaining -= chunk;
+              }
             }
             state.j += copyLength;
             state.metaBlockLength -= copyLength;
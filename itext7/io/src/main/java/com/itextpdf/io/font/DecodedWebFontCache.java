@@ -0,0 +1,147 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.font;
+
+import com.itextpdf.io.util.LruCache;
+
+import java.util.Arrays;
+
+/**
+ * Opt-in cache of decoded WOFF and WOFF2 font programs, shared by all documents.
+ * <p>
+ * Decoding a web font, and especially a WOFF2 one, takes much longer than parsing the resulting
+ * TrueType or OpenType font. When the same web font is used by several documents, or first by
+ * {@link FontProgramDescriptorFactory} and then by {@link FontProgramFactory}, the decoded font
+ * is taken from this cache instead of being decoded again. The cache is keyed by the content of the
+ * compressed font program, so it also works for fonts which are not cached in {@link FontCache}.
+ * <p>
+ * The cache is disabled by default. Enable it with {@link #setCapacity(int)}; when the capacity is exceeded,
+ * the least recently used fonts are evicted.
+ */
+public final class DecodedWebFontCache {
+
+    private static final LruCache<FontBytesKey, byte[]> fonts = new LruCache<>();
+
+    private DecodedWebFontCache() {
+    }
+
+    /**
+     * Sets the maximum number of cached fonts. Zero, the default value, disables the cache.
+     * If more fonts are cached, the least recently used ones are removed.
+     *
+     * @param capacity the maximum number of cached fonts
+     */
+    public static void setCapacity(int capacity) {
+        fonts.setCapacity(capacity);
+    }
+
+    /**
+     * Gets the maximum number of cached fonts.
+     *
+     * @return the maximum number of cached fonts, zero if the cache is disabled
+     */
+    public static int getCapacity() {
+        return fonts.getCapacity();
+    }
+
+    /**
+     * Gets the number of cached fonts.
+     *
+     * @return the number of cached fonts
+     */
+    public static int size() {
+        return fonts.size();
+    }
+
+    /**
+     * Removes all the cached fonts.
+     */
+    public static void clear() {
+        fonts.clear();
+    }
+
+    /**
+     * Gets the decoded font program. The returned array is shared and must not be modified.
+     */
+    static byte[] getDecodedFont(byte[] encodedFont) {
+        if (!fonts.isEnabled() || encodedFont == null) {
+            return null;
+        }
+        return fonts.get(new FontBytesKey(encodedFont));
+    }
+
+    static void putDecodedFont(byte[] encodedFont, byte[] decodedFont) {
+        if (!fonts.isEnabled() || encodedFont == null || decodedFont == null) {
+            return;
+        }
+        // the key keeps its own copy, so that the callers are free to reuse their arrays
+        fonts.put(new FontBytesKey(Arrays.copyOf(encodedFont, encodedFont.length)), decodedFont);
+    }
+
+    private static final class FontBytesKey {
+        private final byte[] fontBytes;
+        private final int hash;
+
+        FontBytesKey(byte[] fontBytes) {
+            this.fontBytes = fontBytes;
+            this.hash = Arrays.hashCode(fontBytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FontBytesKey)) {
+                return false;
+            }
+            FontBytesKey that = (FontBytesKey) o;
+            return hash == that.hash && Arrays.equals(fontBytes, that.fontBytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -77,6 +77,9 @@ public class FontCache {
 
     private static Map<FontCacheKey, FontProgram> fontCache = new ConcurrentHashMap<>();
 
+    // predefined CMaps are parsed once and then shared, the key is the CMap kind and name
+    private static final Map<String, AbstractCMap> parsedCmaps = new ConcurrentHashMap<>();
+
     static {
         try {
             loadRegistry();
@@ -145,27 +148,50 @@ public class FontCache {
 
     /**
      * Parses CMap with a given name producing it in a form of cid to unicode mapping.
+     * <p>
+     * The predefined CMaps are parsed once and the same instance is returned on subsequent calls,
+     * so the returned CMap shall not be modified.
      * @param uniMap a CMap name. It is expected that CMap identified by this name defines unicode to cid mapping.
      * @return an object for convenient mapping from cid to unicode. If no CMap was found for provided name an exception is thrown.
      */
     public static CMapCidUni getCid2UniCmap(String uniMap) {
-        CMapCidUni cidUni = new CMapCidUni();
-        return parseCmap(uniMap, cidUni);
+        String key = "CidUni:" + uniMap;
+        CMapCidUni cidUni = (CMapCidUni) parsedCmaps.get(key);
+        if (cidUni == null) {
+            cidUni = parseCmap(uniMap, new CMapCidUni());
+            parsedCmaps.put(key, cidUni);
+        }
+        return cidUni;
     }
 
     public static CMapUniCid getUni2CidCmap(String uniMap) {
-        CMapUniCid uniCid = new CMapUniCid();
-        return parseCmap(uniMap, uniCid);
+        String key = "UniCid:" + uniMap;
+        CMapUniCid uniCid = (CMapUniCid) parsedCmaps.get(key);
+        if (uniCid == null) {
+            uniCid = parseCmap(uniMap, new CMapUniCid());
+            parsedCmaps.put(key, uniCid);
+        }
+        return uniCid;
     }
 
     public static CMapByteCid getByte2CidCmap(String cmap) {
-        CMapByteCid uniCid = new CMapByteCid();
-        return parseCmap(cmap, uniCid);
+        String key = "ByteCid:" + cmap;
+        CMapByteCid byteCid = (CMapByteCid) parsedCmaps.get(key);
+        if (byteCid == null) {
+            byteCid = parseCmap(cmap, new CMapByteCid());
+            parsedCmaps.put(key, byteCid);
+        }
+        return byteCid;
     }
 
     public static CMapCidByte getCid2Byte(String cmap) {
-        CMapCidByte cidByte = new CMapCidByte();
-        return parseCmap(cmap, cidByte);
+        String key = "CidByte:" + cmap;
+        CMapCidByte cidByte = (CMapCidByte) parsedCmaps.get(key);
+        if (cidByte == null) {
+            cidByte = parseCmap(cmap, new CMapCidByte());
+            parsedCmaps.put(key, cidByte);
+        }
+        return cidByte;
     }
 
     /**
@@ -47,9 +47,9 @@ import com.itextpdf.io.font.constants.FontMacStyleFlags;
 import com.itextpdf.io.font.constants.FontStretches;
 import com.itextpdf.io.font.constants.FontWeights;
 import com.itextpdf.io.font.otf.Glyph;
+import com.itextpdf.io.util.IntObjectMap;
 
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Map;
 
 public abstract class FontProgram implements Serializable {
@@ -61,8 +61,9 @@ public abstract class FontProgram implements Serializable {
 
     // In case Type1: char code to glyph.
     // In case TrueType: glyph index to glyph.
-    protected Map<Integer, Glyph> codeToGlyph = new HashMap<>();
-    protected Map<Integer, Glyph> unicodeToGlyph = new HashMap<>();
+    // The maps are IntObjectMap instances unless replaced by a subclass, see getGlyph(Map, int).
+    protected Map<Integer, Glyph> codeToGlyph = new IntObjectMap<>();
+    protected Map<Integer, Glyph> unicodeToGlyph = new IntObjectMap<>();
     protected boolean isFontSpecific;
 
     protected FontNames fontNames;
@@ -132,12 +133,12 @@ public abstract class FontProgram implements Serializable {
     }
 
     public Glyph getGlyph(int unicode) {
-        return unicodeToGlyph.get(unicode);
+        return getGlyph(unicodeToGlyph, unicode);
     }
 
     // char code in case Type1 or index in case OpenType
     public Glyph getGlyphByCode(int charCode) {
-        return codeToGlyph.get(charCode);
+        return getGlyph(codeToGlyph, charCode);
     }
 
     public boolean hasKernPairs() {
@@ -152,7 +153,7 @@ public abstract class FontProgram implements Serializable {
      * @return the kerning to be applied
      */
     public int getKerning(int first, int second) {
-        return getKerning(unicodeToGlyph.get(first), unicodeToGlyph.get(second));
+        return getKerning(getGlyph(unicodeToGlyph, first), getGlyph(unicodeToGlyph, second));
     }
 
     /**
@@ -292,6 +293,11 @@ public abstract class FontProgram implements Serializable {
         }
     }
 
+    private static Glyph getGlyph(Map<Integer, Glyph> glyphs, int key) {
+        // avoids boxing the key for the default maps
+        return glyphs instanceof IntObjectMap ? ((IntObjectMap<Glyph>) glyphs).get(key) : glyphs.get(key);
+    }
+
     protected void fixSpaceIssue() {
         Glyph space = unicodeToGlyph.get(32);
         if (space != null) {
@@ -44,13 +44,19 @@ package com.itextpdf.io.font;
 
 import com.itextpdf.io.font.constants.FontMacStyleFlags;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * Base font descriptor.
  */
-public class FontProgramDescriptor {
+public class FontProgramDescriptor implements Serializable {
+
+    private static final long serialVersionUID = 3261506218730349451L;
 
     private final String fontName;
 
@@ -98,6 +104,27 @@ public class FontProgramDescriptor {
         this(fontNames, fontMetrics.getItalicAngle(), fontMetrics.isFixedPitch());
     }
 
+    /**
+     * Reads a descriptor written with {@link #writeTo(DataOutput)}.
+     *
+     * @param in the input to read from
+     * @throws IOException if the input cannot be read
+     */
+    FontProgramDescriptor(DataInput in) throws IOException {
+        this.fontName = in.readUTF();
+        this.fullNameLowerCase = in.readUTF();
+        this.fontNameLowerCase = in.readUTF();
+        this.familyNameLowerCase = readNullableString(in);
+        this.style = readNullableString(in);
+        this.macStyle = in.readInt();
+        this.weight = in.readInt();
+        this.italicAngle = in.readFloat();
+        this.isMonospace = in.readBoolean();
+        this.fullNamesAllLangs = readStringSet(in);
+        this.fullNamesEnglishOpenType = readStringSet(in);
+        this.familyNameEnglishOpenType = readNullableString(in);
+    }
+
     public String getFontName() {
         return fontName;
     }
@@ -144,6 +171,57 @@ public class FontProgramDescriptor {
 
     String getFamilyNameEnglishOpenType() { return familyNameEnglishOpenType; }
 
+    /**
+     * Writes the descriptor, so that it can be read with {@link #FontProgramDescriptor(DataInput)}.
+     *
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeUTF(fontName);
+        out.writeUTF(fullNameLowerCase);
+        out.writeUTF(fontNameLowerCase);
+        writeNullableString(out, familyNameLowerCase);
+        writeNullableString(out, style);
+        out.writeInt(macStyle);
+        out.writeInt(weight);
+        out.writeFloat(italicAngle);
+        out.writeBoolean(isMonospace);
+        writeStringSet(out, fullNamesAllLangs);
+        writeStringSet(out, fullNamesEnglishOpenType);
+        writeNullableString(out, familyNameEnglishOpenType);
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableString(DataOutput out, String str) throws IOException {
+        out.writeBoolean(str != null);
+        if (str != null) {
+            out.writeUTF(str);
+        }
+    }
+
+    private static Set<String> readStringSet(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Negative set size.");
+        }
+        Set<String> set = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            set.add(in.readUTF());
+        }
+        return set;
+    }
+
+    private static void writeStringSet(DataOutput out, Set<String> set) throws IOException {
+        out.writeInt(set.size());
+        for (String str : set) {
+            out.writeUTF(str);
+        }
+    }
+
     private Set<String> extractFullFontNames(FontNames fontNames) {
         Set<String> uniqueFullNames = new HashSet<>();
         for (String[] fullName : fontNames.getFullName())
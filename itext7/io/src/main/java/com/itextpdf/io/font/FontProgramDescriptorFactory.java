@@ -44,10 +44,29 @@ package com.itextpdf.io.font;
 
 import com.itextpdf.io.IOException;
 import com.itextpdf.io.font.constants.StandardFonts;
-import com.itextpdf.io.font.woff2.Woff2Converter;
 
 public final class FontProgramDescriptorFactory {
     private static boolean FETCH_CACHED_FIRST = true;
+    private static volatile FontProgramDescriptorIndex descriptorIndex;
+
+    /**
+     * Sets the persistent index which is checked before a font file is parsed
+     * and which is updated with the descriptors of parsed font files.
+     *
+     * @param index the index to use, or null to always parse font files
+     */
+    public static void setDescriptorIndex(FontProgramDescriptorIndex index) {
+        descriptorIndex = index;
+    }
+
+    /**
+     * Gets the persistent index set with {@link #setDescriptorIndex(FontProgramDescriptorIndex)}.
+     *
+     * @return the index or null if it is not set
+     */
+    public static FontProgramDescriptorIndex getDescriptorIndex() {
+        return descriptorIndex;
+    }
 
     public static FontProgramDescriptor fetchDescriptor(String fontName) {
         if (fontName == null || fontName.length() == 0) {
@@ -67,6 +86,14 @@ public final class FontProgramDescriptorFactory {
             }
         }
 
+        FontProgramDescriptorIndex index = descriptorIndex;
+        if (index != null && !isBuiltinFonts14 && !isCidFont) {
+            fontDescriptor = index.get(fontName);
+            if (fontDescriptor != null) {
+                return fontDescriptor;
+            }
+        }
+
         try {
             String fontNameLowerCase = baseName.toLowerCase();
             if (isBuiltinFonts14 || fontNameLowerCase.endsWith(".afm") || fontNameLowerCase.endsWith(".pfm")) {
@@ -78,9 +105,9 @@ public final class FontProgramDescriptorFactory {
             } else if (fontNameLowerCase.endsWith(".woff") || fontNameLowerCase.endsWith(".woff2")) {
                 byte[] fontProgram;
                 if (fontNameLowerCase.endsWith(".woff")) {
-                    fontProgram = WoffConverter.convert(FontProgramFactory.readFontBytesFromPath(baseName));
+                    fontProgram = FontProgramFactory.decodeWoffFont(FontProgramFactory.readFontBytesFromPath(baseName));
                 } else {
-                    fontProgram = Woff2Converter.convert(FontProgramFactory.readFontBytesFromPath(baseName));
+                    fontProgram = FontProgramFactory.decodeWoff2Font(FontProgramFactory.readFontBytesFromPath(baseName));
                 }
                 fontDescriptor = fetchTrueTypeFontDescriptor(fontProgram);
             } else {
@@ -90,6 +117,9 @@ public final class FontProgramDescriptorFactory {
             fontDescriptor = null;
         }
 
+        if (index != null && fontDescriptor != null && !isBuiltinFonts14 && !isCidFont) {
+            index.put(fontName, fontDescriptor);
+        }
         return fontDescriptor;
     }
 
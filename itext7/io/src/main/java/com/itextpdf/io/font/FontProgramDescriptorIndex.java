@@ -0,0 +1,223 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.font;
+
+import com.itextpdf.io.LogMessageConstant;
+import com.itextpdf.io.util.FileUtil;
+import com.itextpdf.io.util.MessageFormatUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent index of {@link FontProgramDescriptor}s of font files, which allows to skip parsing of fonts
+ * that have already been seen, e.g. on application start-up when the same font directories are registered.
+ * <p>
+ * Entries are keyed by the absolute path of the font file (with the index suffix for TrueType collections)
+ * and are only used while the size and the modification time of the file stay the same. Stale entries are
+ * replaced the next time the font is parsed.
+ * <p>
+ * The index is used by {@link FontProgramDescriptorFactory#fetchDescriptor(String)} once set with
+ * {@link FontProgramDescriptorFactory#setDescriptorIndex(FontProgramDescriptorIndex)}, and so by
+ * {@link FontProgramFactory#registerFontDirectory(String)} and by the font sets of the layout module.
+ */
+public final class FontProgramDescriptorIndex implements Serializable {
+
+    private static final long serialVersionUID = -1519624377232812651L;
+
+    // the index file starts with the "FPDI" signature followed by the version of the format
+    private static final int FILE_SIGNATURE = 0x46504449;
+    private static final int FILE_VERSION = 1;
+
+    private final Map<String, IndexEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public FontProgramDescriptorIndex() {
+    }
+
+    /**
+     * Loads the index saved with {@link #save(String)}. If the file does not exist or cannot be read,
+     * an empty index is returned.
+     * <p>
+     * The file is a plain data format, which only contains the paths, sizes and modification times of the fonts
+     * and the fields of their descriptors, so no objects other than the descriptors are created when loading it.
+     *
+     * @param path the path to the index file
+     * @return the loaded index
+     */
+    public static FontProgramDescriptorIndex load(String path) {
+        FontProgramDescriptorIndex index = new FontProgramDescriptorIndex();
+        if (!FileUtil.fileExists(path)) {
+            return index;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            if (in.readInt() != FILE_SIGNATURE || in.readInt() != FILE_VERSION) {
+                throw new IOException("Unsupported index file format.");
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String key = in.readUTF();
+                long length = in.readLong();
+                long lastModified = in.readLong();
+                index.entries.put(key, new IndexEntry(length, lastModified, new FontProgramDescriptor(in)));
+            }
+        } catch (Exception e) {
+            Logger logger = LoggerFactory.getLogger(FontProgramDescriptorIndex.class);
+            logger.warn(MessageFormatUtil.format(LogMessageConstant.FONT_DESCRIPTOR_INDEX_CANNOT_BE_READ, path), e);
+            index.entries.clear();
+        }
+        return index;
+    }
+
+    /**
+     * Saves the index to the file.
+     *
+     * @param path the path to the index file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(String path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(FileUtil.getBufferedOutputStream(path))) {
+            // the entries are copied first, so that the written count matches them
+            Map<String, IndexEntry> snapshot = new HashMap<>(entries);
+            out.writeInt(FILE_SIGNATURE);
+            out.writeInt(FILE_VERSION);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, IndexEntry> entry : snapshot.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().length);
+                out.writeLong(entry.getValue().lastModified);
+                entry.getValue().descriptor.writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of indexed fonts.
+     *
+     * @return the number of indexed fonts
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all the entries of the index.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the descriptor of the font if it is indexed and the font file has not changed since.
+     *
+     * @param fontName the path to the font file, optionally with the index suffix for TrueType collections
+     * @return the indexed descriptor or null
+     */
+    FontProgramDescriptor get(String fontName) {
+        File file = getFontFile(fontName);
+        if (file == null) {
+            return null;
+        }
+        String key = getKey(file, fontName);
+        IndexEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.length != file.length() || entry.lastModified != file.lastModified()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.descriptor;
+    }
+
+    /**
+     * Stores the descriptor of the font, if the font is a file.
+     *
+     * @param fontName   the path to the font file, optionally with the index suffix for TrueType collections
+     * @param descriptor the descriptor of the font
+     */
+    void put(String fontName, FontProgramDescriptor descriptor) {
+        File file = getFontFile(fontName);
+        if (file != null) {
+            entries.put(getKey(file, fontName), new IndexEntry(file.length(), file.lastModified(), descriptor));
+        }
+    }
+
+    private static File getFontFile(String fontName) {
+        int ttcSplit = fontName.toLowerCase().indexOf(".ttc,");
+        File file = new File(ttcSplit > 0 ? fontName.substring(0, ttcSplit + 4) : fontName);
+        return file.isFile() ? file : null;
+    }
+
+    private static String getKey(File file, String fontName) {
+        int ttcSplit = fontName.toLowerCase().indexOf(".ttc,");
+        return ttcSplit > 0 ? file.getAbsolutePath() + fontName.substring(ttcSplit + 4) : file.getAbsolutePath();
+    }
+
+    private static class IndexEntry implements Serializable {
+        private static final long serialVersionUID = 6164371384928347164L;
+
+        private final long length;
+        private final long lastModified;
+        private final FontProgramDescriptor descriptor;
+
+        IndexEntry(long length, long lastModified, FontProgramDescriptor descriptor) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.descriptor = descriptor;
+        }
+    }
+}
@@ -179,9 +179,9 @@ public final class FontProgramFactory {
             if (fontProgram != null) {
                 try {
                     if (WoffConverter.isWoffFont(fontProgram)) {
-                        fontProgram = WoffConverter.convert(fontProgram);
+                        fontProgram = decodeWoffFont(fontProgram);
                     } else if (Woff2Converter.isWoff2Font(fontProgram)) {
-                        fontProgram = Woff2Converter.convert(fontProgram);
+                        fontProgram = decodeWoff2Font(fontProgram);
                     }
                     fontBuilt = new TrueTypeFont(fontProgram);
                 } catch (Exception ignored) {
@@ -215,7 +215,7 @@ public final class FontProgramFactory {
                 }
                 if (".woff".equals(fontFileExtension)) {
                     try {
-                        fontProgram = WoffConverter.convert(fontProgram);
+                        fontProgram = decodeWoffFont(fontProgram);
                     } catch (IllegalArgumentException woffException) {
                         throw new IOException(IOException.InvalidWoffFile, woffException);
                     }
@@ -223,7 +223,7 @@ public final class FontProgramFactory {
                     // ".woff2".equals(fontFileExtension)
 
                     try {
-                        fontProgram = Woff2Converter.convert(fontProgram);
+                        fontProgram = decodeWoff2Font(fontProgram);
                     } catch (FontCompressionException woff2Exception) {
                         throw new IOException(IOException.InvalidWoff2File, woff2Exception);
                     }
@@ -507,6 +507,24 @@ public final class FontProgramFactory {
      */
     public static void clearRegisteredFontFamilies() { fontRegisterProvider.clearRegisteredFontFamilies(); }
 
+    static byte[] decodeWoffFont(byte[] woffBytes) throws java.io.IOException {
+        byte[] fontProgram = DecodedWebFontCache.getDecodedFont(woffBytes);
+        if (fontProgram == null) {
+            fontProgram = WoffConverter.convert(woffBytes);
+            DecodedWebFontCache.putDecodedFont(woffBytes, fontProgram);
+        }
+        return fontProgram;
+    }
+
+    static byte[] decodeWoff2Font(byte[] woff2Bytes) {
+        byte[] fontProgram = DecodedWebFontCache.getDecodedFont(woff2Bytes);
+        if (fontProgram == null) {
+            fontProgram = Woff2Converter.convert(woff2Bytes);
+            DecodedWebFontCache.putDecodedFont(woff2Bytes, fontProgram);
+        }
+        return fontProgram;
+    }
+
     static byte[] readFontBytesFromPath(String path) throws java.io.IOException {
         RandomAccessFileOrArray raf = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createBestSource(path));
         int bufLen = (int) raf.length();
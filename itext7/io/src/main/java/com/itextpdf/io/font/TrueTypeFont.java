@@ -51,13 +51,13 @@ import com.itextpdf.io.font.otf.GlyphPositioningTableReader;
 import com.itextpdf.io.font.otf.GlyphSubstitutionTableReader;
 import com.itextpdf.io.font.otf.OpenTypeGdefTableReader;
 import com.itextpdf.io.util.IntHashtable;
+import com.itextpdf.io.util.IntObjectMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.itextpdf.io.util.MessageFormatUtil;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -77,6 +77,8 @@ public class TrueTypeFont extends FontProgram {
     private GlyphSubstitutionTableReader gsubTable;
     private GlyphPositioningTableReader gposTable;
     private OpenTypeGdefTableReader gdefTable;
+    // GDEF, GSUB and GPOS are only needed for advanced typography, so they are read on first access
+    private boolean layoutTablesRead;
 
     /**
      * The map containing the kerning information. It represents the content of
@@ -195,14 +197,17 @@ public class TrueTypeFont extends FontProgram {
     }
 
     public GlyphSubstitutionTableReader getGsubTable() {
+        ensureLayoutTablesRead();
         return gsubTable;
     }
 
     public GlyphPositioningTableReader getGposTable() {
+        ensureLayoutTablesRead();
         return gposTable;
     }
 
     public OpenTypeGdefTableReader getGdefTable() {
+        ensureLayoutTablesRead();
         return gdefTable;
     }
 
@@ -296,8 +301,8 @@ public class TrueTypeFont extends FontProgram {
         Map<Integer, int[]> cmap = getActiveCmap();
         int[] glyphWidths = fontParser.getGlyphWidthsByIndex();
         int numOfGlyphs = fontMetrics.getNumberOfGlyphs();
-        unicodeToGlyph = new LinkedHashMap<>(cmap.size());
-        codeToGlyph = new LinkedHashMap<>(numOfGlyphs);
+        unicodeToGlyph = new IntObjectMap<>();
+        codeToGlyph = new IntObjectMap<>();
         avgWidth = 0;
         for (int charCode : cmap.keySet()) {
             int index = cmap.get(charCode)[0];
@@ -329,13 +334,23 @@ public class TrueTypeFont extends FontProgram {
             avgWidth /= codeToGlyph.size();
         }
 
-        readGdefTable();
-        readGsubTable();
-        readGposTable();
-
         isVertical = false;
     }
 
+    private synchronized void ensureLayoutTablesRead() {
+        if (layoutTablesRead || fontParser == null) {
+            return;
+        }
+        layoutTablesRead = true;
+        try {
+            readGdefTable();
+            readGsubTable();
+            readGposTable();
+        } catch (java.io.IOException e) {
+            throw new IOException(IOException.IoException, e);
+        }
+    }
+
     /**
      * Gets the code pages supported by the font.
      *
@@ -367,6 +382,8 @@ public class TrueTypeFont extends FontProgram {
     }
 
     public void close() throws java.io.IOException {
+        // the tables cannot be read once the parser is closed
+        ensureLayoutTablesRead();
         if (fontParser != null) {
             fontParser.close();
         }
@@ -104,7 +104,7 @@ class TrueTypeFontSubset {
     private  int tableGlyphOffset;
     private  int[] newLocaTable;
     private  byte[] newLocaTableOut;
-    private  byte[] newGlyfTable;
+    private  int[] activeGlyphs;
     private  int glyfTableRealSize;
     private  int locaTableRealSize;
     private  byte[] outFont;
@@ -172,7 +172,7 @@ class TrueTypeFontSubset {
             fullFontSize += tableLocation[TABLE_LENGTH] + 3 & ~3;
         }
         fullFontSize += newLocaTableOut.length;
-        fullFontSize += newGlyfTable.length;
+        fullFontSize += glyfTableRealSize + 3 & ~3;
         int reference = 16 * tablesUsed + 12;
         fullFontSize += reference;
         outFont = new byte[fullFontSize];
@@ -183,6 +183,7 @@ class TrueTypeFontSubset {
         writeFontShort((1 << selector) * 16);
         writeFontShort(selector);
         writeFontShort((tablesUsed - (1 << selector)) * 16);
+        int glyfChecksumPtr = -1;
         for (String name : tableNames) {
             int len;
             tableLocation = tableDirectory.get(name);
@@ -192,7 +193,9 @@ class TrueTypeFontSubset {
             writeFontString(name);
             switch (name) {
                 case "glyf":
-                    writeFontInt(calculateChecksum(newGlyfTable));
+                    // the checksum is written once the glyphs are copied
+                    glyfChecksumPtr = fontPtr;
+                    writeFontInt(0);
                     len = glyfTableRealSize;
                     break;
                 case "loca":
@@ -215,9 +218,12 @@ class TrueTypeFontSubset {
             }
             switch (name) {
                 case "glyf":
-                    System.arraycopy(newGlyfTable, 0, outFont, fontPtr, newGlyfTable.length);
-                    fontPtr += newGlyfTable.length;
-                    newGlyfTable = null;
+                    int glyfStart = fontPtr;
+                    int glyfLength = glyfTableRealSize + 3 & ~3;
+                    copyGlyphs(glyfStart);
+                    fontPtr = glyfChecksumPtr;
+                    writeFontInt(calculateChecksum(outFont, glyfStart, glyfLength));
+                    fontPtr = glyfStart + glyfLength;
                     break;
                 case "loca":
                     System.arraycopy(newLocaTableOut, 0, outFont, fontPtr, newLocaTableOut.length);
@@ -279,9 +285,9 @@ class TrueTypeFontSubset {
         }
     }
 
-    private void createNewGlyphTables() throws java.io.IOException {
+    private void createNewGlyphTables() {
         newLocaTable = new int[locaTable.length];
-        int[] activeGlyphs = new int[glyphsInList.size()];
+        activeGlyphs = new int[glyphsInList.size()];
         for (int k = 0; k < activeGlyphs.length; ++k) {
             activeGlyphs[k] = (int) glyphsInList.get(k);
         }
@@ -291,26 +297,37 @@ class TrueTypeFontSubset {
             glyfSize += locaTable[glyph + 1] - locaTable[glyph];
         }
         glyfTableRealSize = glyfSize;
-        glyfSize = glyfSize + 3 & ~3;
-        newGlyfTable = new byte[glyfSize];
         int glyfPtr = 0;
         int listGlyf = 0;
         for (int k = 0; k < newLocaTable.length; ++k) {
             newLocaTable[k] = glyfPtr;
             if (listGlyf < activeGlyphs.length && activeGlyphs[listGlyf] == k) {
                 ++listGlyf;
-                newLocaTable[k] = glyfPtr;
-                int start = locaTable[k];
-                int len = locaTable[k + 1] - start;
+                int len = locaTable[k + 1] - locaTable[k];
                 if (len > 0) {
-                    rf.seek(tableGlyphOffset + start);
-                    rf.readFully(newGlyfTable, glyfPtr, len);
                     glyfPtr += len;
                 }
             }
         }
     }
 
+    /**
+     * Copies the data of the used glyphs from the font file right into the output font,
+     * in the order defined by {@link #createNewGlyphTables()}.
+     */
+    private void copyGlyphs(int glyfStart) throws java.io.IOException {
+        int glyfPtr = glyfStart;
+        for (int glyph : activeGlyphs) {
+            int start = locaTable[glyph];
+            int len = locaTable[glyph + 1] - start;
+            if (len > 0) {
+                rf.seek(tableGlyphOffset + start);
+                rf.readFully(outFont, glyfPtr, len);
+                glyfPtr += len;
+            }
+        }
+    }
+
     private void locaToBytes() {
         if (locaShortTable) {
             locaTableRealSize = newLocaTable.length * 2;
@@ -422,12 +439,16 @@ class TrueTypeFontSubset {
     }
 
     private int calculateChecksum(byte[] b) {
-        int len = b.length / 4;
+        return calculateChecksum(b, 0, b.length);
+    }
+
+    private int calculateChecksum(byte[] b, int offset, int length) {
+        int len = length / 4;
         int v0 = 0;
         int v1 = 0;
         int v2 = 0;
         int v3 = 0;
-        int ptr = 0;
+        int ptr = offset;
         for (int k = 0; k < len; ++k) {
             v3 += b[ptr++] & 0xff;
             v2 += b[ptr++] & 0xff;
@@ -190,20 +190,17 @@ class WoffConverter {
         }
 
         for (TableDirectory td : tdList) {
-            byte[] compressedData = new byte[(int) td.compLength];
-            byte[] uncompressedData;
-            System.arraycopy(woffBytes, (int) td.offset, compressedData, 0, (int) td.compLength);
             int expectedUncompressedLen = (int) td.origLengthVal;
-            if (td.compLength > td.origLengthVal) {
+            if (td.compLength > td.origLengthVal || td.offset + td.compLength > woffBytes.length) {
                 throw new IllegalArgumentException();
             }
             if (td.compLength != td.origLengthVal) {
-                ByteArrayInputStream stream = new ByteArrayInputStream(compressedData);
+                // inflate straight into the table position, no intermediate buffers are needed
+                ByteArrayInputStream stream = new ByteArrayInputStream(woffBytes, (int) td.offset, (int) td.compLength);
                 InflaterInputStream zip = new InflaterInputStream(stream);
-                uncompressedData = new byte[expectedUncompressedLen];
                 int bytesRead = 0;
                 while (expectedUncompressedLen - bytesRead > 0) {
-                    int readRes = zip.read(uncompressedData, bytesRead, expectedUncompressedLen - bytesRead);
+                    int readRes = zip.read(otfBytes, td.outOffset + bytesRead, expectedUncompressedLen - bytesRead);
                     if (readRes < 0) {
                         throw new IllegalArgumentException();
                     }
@@ -213,10 +210,8 @@ class WoffConverter {
                     throw new IllegalArgumentException();
                 }
             } else {
-                uncompressedData = compressedData;
+                System.arraycopy(woffBytes, (int) td.offset, otfBytes, td.outOffset, expectedUncompressedLen);
             }
-
-            System.arraycopy(uncompressedData, 0, otfBytes, td.outOffset, expectedUncompressedLen);
         }
 
         return otfBytes;
@@ -44,11 +44,10 @@
 package com.itextpdf.io.font.cmap;
 
 import com.itextpdf.io.util.IntHashtable;
+import com.itextpdf.io.util.IntObjectMap;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * @author psoares
@@ -56,7 +55,7 @@ import java.util.Map;
 public class CMapCidByte extends AbstractCMap {
 
     private static final long serialVersionUID = 4956059671207068672L;
-    private Map<Integer, byte[]> map = new HashMap<>();
+    private IntObjectMap<byte[]> map = new IntObjectMap<>();
     private final byte[] EMPTY = {};
     private List<byte[]> codeSpaceRanges = new ArrayList<>();
 
@@ -43,7 +43,6 @@
  */
 package com.itextpdf.io.font.cmap;
 
-import com.itextpdf.io.util.IntHashtable;
 import com.itextpdf.io.util.TextUtil;
 
 /**
@@ -52,7 +51,7 @@ import com.itextpdf.io.util.TextUtil;
 public class CMapUniCid extends AbstractCMap {
 
     private static final long serialVersionUID = -6111821751136011584L;
-    private IntHashtable map = new IntHashtable(65537);
+    private IntRangeTable map = new IntRangeTable();
 
     @Override
     void addChar(String mark, CMapObject code) {
@@ -0,0 +1,195 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.font.cmap;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A compact int to int map for the mappings of CMaps.
+ * <p>
+ * CMaps mostly map runs of consecutive codes to runs of consecutive values, so the mappings are
+ * compiled into a table of such runs, sorted by the first code of the run, and looked up by binary search.
+ * The mappings are compiled on the first lookup after they were changed; as with {@link com.itextpdf.io.util.IntHashtable},
+ * the last value put for a key wins and 0 is returned for a key which has no mapping.
+ * Once compiled, the table may be shared and looked up from several threads.
+ */
+final class IntRangeTable implements Serializable {
+
+    private static final long serialVersionUID = -3432186468785406413L;
+
+    private static final Ranges EMPTY_RANGES = new Ranges(new int[0], new int[0], new int[0], 0);
+
+    // mappings which are not compiled yet, in the order they were put
+    private int[] keys = new int[0];
+    private int[] values = new int[0];
+    private int count;
+
+    private volatile Ranges ranges = EMPTY_RANGES;
+
+    synchronized void put(int key, int value) {
+        if (ranges != null) {
+            // the table is changed after having been compiled: get back to the plain mappings
+            Ranges compiled = ranges;
+            ranges = null;
+            for (int i = 0; i < compiled.starts.length; i++) {
+                for (int k = compiled.starts[i]; k <= compiled.ends[i]; k++) {
+                    append(k, compiled.values[i] + k - compiled.starts[i]);
+                }
+            }
+        }
+        append(key, value);
+    }
+
+    int get(int key) {
+        Ranges compiled = getRanges();
+        int i = Arrays.binarySearch(compiled.starts, key);
+        if (i < 0) {
+            // the index of the range which starts before the key
+            i = -i - 2;
+            if (i < 0 || key > compiled.ends[i]) {
+                return 0;
+            }
+        }
+        return compiled.values[i] + key - compiled.starts[i];
+    }
+
+    int size() {
+        return getRanges().size;
+    }
+
+    int[] toOrderedKeys() {
+        Ranges compiled = getRanges();
+        int[] orderedKeys = new int[compiled.size];
+        int ptr = 0;
+        for (int i = 0; i < compiled.starts.length; i++) {
+            for (int k = compiled.starts[i]; k <= compiled.ends[i]; k++) {
+                orderedKeys[ptr++] = k;
+            }
+        }
+        return orderedKeys;
+    }
+
+    /**
+     * Gets the number of runs of consecutive codes mapped to consecutive values.
+     */
+    int getRangeCount() {
+        return getRanges().starts.length;
+    }
+
+    private Ranges getRanges() {
+        Ranges compiled = ranges;
+        return compiled != null ? compiled : compile();
+    }
+
+    private synchronized Ranges compile() {
+        if (ranges == null) {
+            // sort the mappings by key, keeping the order in which they were put for equal keys
+            long[] order = new long[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = ((long) keys[i] << 32) | i;
+            }
+            Arrays.sort(order);
+
+            int[] starts = new int[count];
+            int[] ends = new int[count];
+            int[] rangeValues = new int[count];
+            int rangeCount = 0;
+            int size = 0;
+            for (int i = 0; i < count; i++) {
+                int key = (int) (order[i] >> 32);
+                if (i + 1 < count && (int) (order[i + 1] >> 32) == key) {
+                    // a later mapping of the same key overrides this one
+                    continue;
+                }
+                int value = values[(int) order[i]];
+                size++;
+                if (rangeCount > 0 && ends[rangeCount - 1] == key - 1
+                        && rangeValues[rangeCount - 1] + key - starts[rangeCount - 1] == value) {
+                    ends[rangeCount - 1] = key;
+                } else {
+                    starts[rangeCount] = key;
+                    ends[rangeCount] = key;
+                    rangeValues[rangeCount] = value;
+                    rangeCount++;
+                }
+            }
+            ranges = new Ranges(Arrays.copyOf(starts, rangeCount), Arrays.copyOf(ends, rangeCount),
+                    Arrays.copyOf(rangeValues, rangeCount), size);
+            keys = new int[0];
+            values = new int[0];
+            count = 0;
+        }
+        return ranges;
+    }
+
+    private void append(int key, int value) {
+        if (count == keys.length) {
+            int newLength = Math.max(16, keys.length * 2);
+            keys = Arrays.copyOf(keys, newLength);
+            values = Arrays.copyOf(values, newLength);
+        }
+        keys[count] = key;
+        values[count] = value;
+        count++;
+    }
+
+    private static final class Ranges implements Serializable {
+
+        private static final long serialVersionUID = 6342264536581519553L;
+
+        // the first and the last key of each run and the value of its first key
+        final int[] starts;
+        final int[] ends;
+        final int[] values;
+        final int size;
+
+        Ranges(int[] starts, int[] ends, int[] values, int size) {
+            this.starts = starts;
+            this.ends = ends;
+            this.values = values;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.font.otf;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A compiled OpenType coverage table: a set of glyph ids checked with no glyph id boxed when
+ * {@link #contains(int)} is used.
+ * <p>
+ * Dense sets are kept as a bitset covering only the range between the smallest and the largest glyph id,
+ * so that a membership check is a single array access. Sets whose range is much wider than their size,
+ * e.g. a coverage of a few glyphs spread over the whole font, are kept as a sorted array of glyph ids instead,
+ * and a membership check is a binary search.
+ * Negative glyph ids are not supported. The iterator goes in ascending glyph id order
+ * and does not support removal.
+ */
+final class GlyphCoverageSet extends AbstractSet<Integer> implements Serializable {
+
+    private static final long serialVersionUID = -2796497914815227218L;
+
+    private static final int WORD_SHIFT = 6;
+
+    // a bitset of this number of words is small enough to be kept regardless of the density of the set
+    private static final int MIN_SPARSE_WORDS = 16;
+
+    // the bitset, null if the set is sparse
+    private long[] words;
+    // the index of the word words[0] stands for
+    private int firstWord;
+    // the sorted glyph ids of a sparse set, in range [0; size), null if the set is kept as a bitset
+    private int[] ids;
+    private int size;
+
+    GlyphCoverageSet() {
+        words = new long[0];
+    }
+
+    GlyphCoverageSet(Collection<Integer> glyphIds) {
+        this();
+        addAll(glyphIds);
+    }
+
+    boolean contains(int glyphId) {
+        if (words == null) {
+            return Arrays.binarySearch(ids, 0, size, glyphId) >= 0;
+        }
+        int wordIndex = (glyphId >> WORD_SHIFT) - firstWord;
+        return glyphId >= 0 && wordIndex >= 0 && wordIndex < words.length
+                && (words[wordIndex] & (1L << (glyphId & 63))) != 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && contains((int) (Integer) o);
+    }
+
+    @Override
+    public boolean add(Integer glyphId) {
+        int id = (int) glyphId;
+        if (id < 0) {
+            throw new IllegalArgumentException("Glyph id shall not be negative: " + id);
+        }
+        if (words == null) {
+            return addSparse(id);
+        }
+        if (contains(id)) {
+            return false;
+        }
+        int word = id >> WORD_SHIFT;
+        int spanWords = words.length == 0 ? 1
+                : Math.max(firstWord + words.length - 1, word) - Math.min(firstWord, word) + 1;
+        if (spanWords > MIN_SPARSE_WORDS && spanWords > 2 * (size + 1)) {
+            // the bitset would be at least four times larger than the array of glyph ids
+            toSparse();
+            return addSparse(id);
+        }
+        int wordIndex = ensureWord(word);
+        words[wordIndex] |= 1L << (id & 63);
+        size++;
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private int next = nextGlyphId(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                int current = next;
+                next = nextGlyphId(current + 1);
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    boolean isSparse() {
+        return words == null;
+    }
+
+    private int nextGlyphId(int fromGlyphId) {
+        if (words == null) {
+            int index = Arrays.binarySearch(ids, 0, size, fromGlyphId);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < size ? ids[index] : -1;
+        }
+        int wordIndex = Math.max((fromGlyphId >> WORD_SHIFT) - firstWord, 0);
+        int bit = wordIndex == (fromGlyphId >> WORD_SHIFT) - firstWord ? fromGlyphId & 63 : 0;
+        for (; wordIndex < words.length; wordIndex++, bit = 0) {
+            long word = words[wordIndex] >>> bit;
+            if (word != 0) {
+                return ((wordIndex + firstWord) << WORD_SHIFT) + bit + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return -1;
+    }
+
+    private boolean addSparse(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(2 * size, 8));
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+        int spanWords = (ids[size - 1] >> WORD_SHIFT) - (ids[0] >> WORD_SHIFT) + 1;
+        if (spanWords <= size) {
+            // the set became dense enough for the bitset to be at most twice larger than the array
+            toBitset();
+        }
+        return true;
+    }
+
+    private void toSparse() {
+        int[] sparseIds = new int[Math.max(size + 1, 8)];
+        int i = 0;
+        for (int id = nextGlyphId(0); id >= 0; id = nextGlyphId(id + 1)) {
+            sparseIds[i++] = id;
+        }
+        ids = sparseIds;
+        words = null;
+    }
+
+    private void toBitset() {
+        int[] sparseIds = ids;
+        int sparseSize = size;
+        words = new long[0];
+        ids = null;
+        size = 0;
+        ensureWord(sparseIds[0] >> WORD_SHIFT);
+        ensureWord(sparseIds[sparseSize - 1] >> WORD_SHIFT);
+        for (int i = 0; i < sparseSize; i++) {
+            int id = sparseIds[i];
+            words[(id >> WORD_SHIFT) - firstWord] |= 1L << (id & 63);
+        }
+        size = sparseSize;
+    }
+
+    private int ensureWord(int word) {
+        if (words.length == 0) {
+            words = new long[1];
+            firstWord = word;
+        } else if (word < firstWord) {
+            long[] newWords = new long[words.length + firstWord - word];
+            System.arraycopy(words, 0, newWords, firstWord - word, words.length);
+            words = newWords;
+            firstWord = word;
+        } else if (word - firstWord >= words.length) {
+            long[] newWords = new long[word - firstWord + 1];
+            System.arraycopy(words, 0, newWords, 0, words.length);
+            words = newWords;
+        }
+        return word - firstWord;
+    }
+}
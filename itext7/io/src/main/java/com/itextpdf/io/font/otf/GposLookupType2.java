@@ -43,10 +43,11 @@
  */
 package com.itextpdf.io.font.otf;
 
+import com.itextpdf.io.util.IntObjectMap;
+
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -90,11 +91,13 @@ public class GposLookupType2 extends OpenTableLookup {
             case 1: {
                 PairPosAdjustmentFormat1 format1 = new PairPosAdjustmentFormat1(openReader, lookupFlag, subTableLocation);
                 listRules.add(format1);
+                addStartGlyphs(format1.gposMap.keySet());
                 break;
             }
             case 2: {
                 PairPosAdjustmentFormat2 format2 = new PairPosAdjustmentFormat2(openReader, lookupFlag, subTableLocation);
                 listRules.add(format2);
+                addStartGlyphs(format2.coverageSet);
                 break;
             }
         }
@@ -104,7 +107,7 @@ public class GposLookupType2 extends OpenTableLookup {
 
         private static final long serialVersionUID = -5556528810086852702L;
 
-        private Map<Integer,Map<Integer,PairValueFormat>> gposMap = new HashMap<>();
+        private IntObjectMap<Map<Integer,PairValueFormat>> gposMap = new IntObjectMap<>();
 
         public PairPosAdjustmentFormat1(OpenTypeFontTableReader openReader, int lookupFlag, int subtableLocation) throws java.io.IOException {
             super(openReader, lookupFlag, null);
@@ -168,7 +171,7 @@ public class GposLookupType2 extends OpenTableLookup {
         private static final long serialVersionUID = 3056620748845862393L;
         private OtfClass classDef1;
         private OtfClass classDef2;
-        private HashSet<Integer> coverageSet;
+        private GlyphCoverageSet coverageSet;
         private Map<Integer,PairValueFormat[]> posSubs = new HashMap<>();
 
         public PairPosAdjustmentFormat2(OpenTypeFontTableReader openReader, int lookupFlag, int subtableLocation) throws java.io.IOException {
@@ -223,7 +226,7 @@ public class GposLookupType2 extends OpenTableLookup {
                 }
             }
 
-            coverageSet = new HashSet<>(openReader.readCoverageFormat(coverage));
+            coverageSet = new GlyphCoverageSet(openReader.readCoverageFormat(coverage));
             classDef1 = openReader.readClassDefinition(locationClass1);
             classDef2 = openReader.readClassDefinition(locationClass2);
         }
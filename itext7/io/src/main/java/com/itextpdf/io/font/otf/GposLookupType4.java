@@ -132,6 +132,7 @@ public class GposLookupType4 extends OpenTableLookup {
         int markArrayLocation = openReader.rf.readUnsignedShort() + subTableLocation;
         int baseArrayLocation = openReader.rf.readUnsignedShort() + subTableLocation;
         List<Integer> markCoverage = openReader.readCoverageFormat(markCoverageLocation);
+        addStartGlyphs(markCoverage);
         List<Integer> baseCoverage = openReader.readCoverageFormat(baseCoverageLocation);
         List<OtfMarkRecord> markRecords = OtfReadCommon.readMarkArray(openReader, markArrayLocation);
         MarkToBase markToBase = new MarkToBase();
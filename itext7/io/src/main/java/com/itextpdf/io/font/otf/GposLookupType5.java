@@ -134,6 +134,7 @@ public class GposLookupType5 extends OpenTableLookup {
         int markArrayLocation = openReader.rf.readUnsignedShort() + subTableLocation;
         int ligatureArrayLocation = openReader.rf.readUnsignedShort() + subTableLocation;
         List<Integer> markCoverage = openReader.readCoverageFormat(markCoverageLocation);
+        addStartGlyphs(markCoverage);
         List<Integer> ligatureCoverage = openReader.readCoverageFormat(ligatureCoverageLocation);
         List<OtfMarkRecord> markRecords = OtfReadCommon.readMarkArray(openReader, markArrayLocation);
         MarkToLigature markToLigature = new MarkToLigature();
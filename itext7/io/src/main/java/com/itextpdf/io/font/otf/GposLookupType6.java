@@ -136,6 +136,7 @@ public class GposLookupType6 extends OpenTableLookup {
         int markArrayLocation = openReader.rf.readUnsignedShort() + subTableLocation;
         int baseArrayLocation = openReader.rf.readUnsignedShort() + subTableLocation;
         List<Integer> markCoverage = openReader.readCoverageFormat(markCoverageLocation);
+        addStartGlyphs(markCoverage);
         List<Integer> baseCoverage = openReader.readCoverageFormat(baseCoverageLocation);
         List<OtfMarkRecord> markRecords = OtfReadCommon.readMarkArray(openReader, markArrayLocation);
         MarkToBaseMark markToBaseMark = new MarkToBaseMark();
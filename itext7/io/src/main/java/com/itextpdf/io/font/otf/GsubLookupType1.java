@@ -90,6 +90,7 @@ public class GsubLookupType1 extends OpenTableLookup {
             int coverage = openReader.rf.readUnsignedShort();
             int deltaGlyphID = openReader.rf.readShort();
             List<Integer> coverageGlyphIds = openReader.readCoverageFormat(subTableLocation + coverage);
+            addStartGlyphs(coverageGlyphIds);
             for (int coverageGlyphId : coverageGlyphIds) {
                 int substituteGlyphId = coverageGlyphId + deltaGlyphID;
                 substMap.put(coverageGlyphId, substituteGlyphId);
@@ -102,6 +103,7 @@ public class GsubLookupType1 extends OpenTableLookup {
                 substitute[k] = openReader.rf.readUnsignedShort();
             }
             List<Integer> coverageGlyphIds = openReader.readCoverageFormat(subTableLocation + coverage);
+            addStartGlyphs(coverageGlyphIds);
             for (int k = 0; k < glyphCount; ++k) {
                 substMap.put(coverageGlyphIds.get(k), substitute[k]);
             }
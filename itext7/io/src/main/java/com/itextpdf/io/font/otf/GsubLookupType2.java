@@ -43,9 +43,9 @@
  */
 package com.itextpdf.io.font.otf;
 
-import java.util.HashMap;
+import com.itextpdf.io.util.IntObjectMap;
+
 import java.util.List;
-import java.util.Map;
 
 /**
  * LookupType 2: Multiple Substitution Subtable
@@ -53,11 +53,11 @@ import java.util.Map;
 public class GsubLookupType2 extends OpenTableLookup {
 
     private static final long serialVersionUID = 48861238131801306L;
-    private Map<Integer, int[]> substMap;
+    private IntObjectMap<int[]> substMap;
 
     public GsubLookupType2(OpenTypeFontTableReader openReader, int lookupFlag, int[] subTableLocations) throws java.io.IOException {
         super(openReader, lookupFlag, subTableLocations);
-        substMap = new HashMap<>();
+        substMap = new IntObjectMap<>();
         readSubTables();
     }
 
@@ -92,6 +92,7 @@ public class GsubLookupType2 extends OpenTableLookup {
             int[] sequenceLocations = openReader.readUShortArray(sequenceCount, subTableLocation);
 
             List<Integer> coverageGlyphIds = openReader.readCoverageFormat(subTableLocation + coverage);
+            addStartGlyphs(coverageGlyphIds);
             for (int i = 0; i < sequenceCount; ++i) {
                 openReader.rf.seek(sequenceLocations[i]);
                 int glyphCount = openReader.rf.readUnsignedShort();
@@ -43,9 +43,9 @@
  */
 package com.itextpdf.io.font.otf;
 
-import java.util.HashMap;
+import com.itextpdf.io.util.IntObjectMap;
+
 import java.util.List;
-import java.util.Map;
 
 /**
  * LookupType 3: Alternate Substitution Subtable
@@ -54,11 +54,11 @@ import java.util.Map;
 public class GsubLookupType3 extends OpenTableLookup {
 
     private static final long serialVersionUID = -5408042853790920298L;
-    private Map<Integer, int[]> substMap;
+    private IntObjectMap<int[]> substMap;
 
     public GsubLookupType3(OpenTypeFontTableReader openReader, int lookupFlag, int[] subTableLocations) throws java.io.IOException {
         super(openReader, lookupFlag, subTableLocations);
-        substMap = new HashMap<>();
+        substMap = new IntObjectMap<>();
         readSubTables();
     }
 
@@ -97,6 +97,7 @@ public class GsubLookupType3 extends OpenTableLookup {
             substitute[k] = openReader.readUShortArray(glyphCount);
         }
         List<Integer> coverageGlyphIds = openReader.readCoverageFormat(subTableLocation + coverage);
+        addStartGlyphs(coverageGlyphIds);
         for (int k = 0; k < alternateSetCount; ++k) {
             substMap.put(coverageGlyphIds.get(k), substitute[k]);
         }
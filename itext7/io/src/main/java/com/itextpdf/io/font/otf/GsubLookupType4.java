@@ -43,10 +43,10 @@
  */
 package com.itextpdf.io.font.otf;
 
+import com.itextpdf.io.util.IntObjectMap;
+
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * LookupType 4: Ligature Substitution Subtable
@@ -58,11 +58,11 @@ public class GsubLookupType4 extends OpenTableLookup {
      * The key is the first character. The first element in the int array is the
      * output ligature
      */
-    private Map<Integer,List<int[]>> ligatures;
+    private IntObjectMap<List<int[]>> ligatures;
     
     public GsubLookupType4(OpenTypeFontTableReader openReader, int lookupFlag, int[] subTableLocations) throws java.io.IOException {
         super(openReader, lookupFlag, subTableLocations);
-        ligatures = new HashMap<>();
+        ligatures = new IntObjectMap<>();
         readSubTables();
     }
     
@@ -113,6 +113,7 @@ public class GsubLookupType4 extends OpenTableLookup {
             ligatureSet[k] = openReader.rf.readUnsignedShort() + subTableLocation;
         }
         List<Integer> coverageGlyphIds = openReader.readCoverageFormat(coverage);
+        addStartGlyphs(coverageGlyphIds);
         for (int k = 0; k < ligSetCount; ++k) {
             openReader.rf.seek(ligatureSet[k]);
             int ligatureCount = openReader.rf.readUnsignedShort();
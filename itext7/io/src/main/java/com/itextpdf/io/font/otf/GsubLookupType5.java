@@ -49,7 +49,6 @@ import com.itextpdf.io.font.otf.lookuptype5.SubTableLookup5Format3;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -132,6 +131,7 @@ public class GsubLookupType5 extends OpenTableLookup {
         int[] subRuleSetOffsets = openReader.readUShortArray(subRuleSetCount, subTableLocation);
 
         List<Integer> coverageGlyphIds = openReader.readCoverageFormat(subTableLocation + coverageOffset);
+        addStartGlyphs(coverageGlyphIds);
         for (int i = 0; i < subRuleSetCount; ++i) {
             openReader.rf.seek(subRuleSetOffsets[i]);
             int subRuleCount = openReader.rf.readUnsignedShort();
@@ -159,7 +159,8 @@ public class GsubLookupType5 extends OpenTableLookup {
         int subClassSetCount = openReader.rf.readUnsignedShort();
         int[] subClassSetOffsets = openReader.readUShortArray(subClassSetCount, subTableLocation);
 
-        Set<Integer> coverageGlyphIds = new HashSet<>(openReader.readCoverageFormat(subTableLocation + coverageOffset));
+        Set<Integer> coverageGlyphIds = new GlyphCoverageSet(openReader.readCoverageFormat(subTableLocation + coverageOffset));
+        addStartGlyphs(coverageGlyphIds);
         OtfClass classDefinition = openReader.readClassDefinition(subTableLocation + classDefOffset);
 
         SubTableLookup5Format2 t = new SubTableLookup5Format2(openReader, lookupFlag, coverageGlyphIds, classDefinition);
@@ -202,6 +203,7 @@ public class GsubLookupType5 extends OpenTableLookup {
 
         List<Set<Integer>> coverages = new ArrayList<>(glyphCount);
         openReader.readCoverages(coverageOffsets, coverages);
+        addStartGlyphs(coverages.get(0));
 
         SubTableLookup5Format3.SubstRuleFormat3 rule = new SubTableLookup5Format3.SubstRuleFormat3(coverages, substLookupRecords);
         subTables.add(new SubTableLookup5Format3(openReader, lookupFlag, rule));
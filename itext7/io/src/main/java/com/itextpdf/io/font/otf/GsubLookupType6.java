@@ -49,7 +49,6 @@ import com.itextpdf.io.font.otf.lookuptype6.SubTableLookup6Format3;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -73,6 +72,7 @@ public class GsubLookupType6 extends GsubLookupType5 {
         int[] chainSubRuleSetOffsets = openReader.readUShortArray(chainSubRuleSetCount, subTableLocation);
 
         List<Integer> coverageGlyphIds = openReader.readCoverageFormat(subTableLocation + coverageOffset);
+        addStartGlyphs(coverageGlyphIds);
         for (int i = 0; i < chainSubRuleSetCount; ++i) {
             openReader.rf.seek(chainSubRuleSetOffsets[i]);
             int chainSubRuleCount = openReader.rf.readUnsignedShort();
@@ -107,7 +107,8 @@ public class GsubLookupType6 extends GsubLookupType5 {
         int chainSubClassSetCount = openReader.rf.readUnsignedShort();
         int[] chainSubClassSetOffsets = openReader.readUShortArray(chainSubClassSetCount, subTableLocation);
 
-        Set<Integer> coverageGlyphIds = new HashSet<>(openReader.readCoverageFormat(subTableLocation + coverageOffset));
+        Set<Integer> coverageGlyphIds = new GlyphCoverageSet(openReader.readCoverageFormat(subTableLocation + coverageOffset));
+        addStartGlyphs(coverageGlyphIds);
         OtfClass backtrackClassDefinition = openReader.readClassDefinition(subTableLocation + backtrackClassDefOffset);
         OtfClass inputClassDefinition = openReader.readClassDefinition(subTableLocation + inputClassDefOffset);
         OtfClass lookaheadClassDefinition = openReader.readClassDefinition(subTableLocation + lookaheadClassDefOffset);
@@ -164,6 +165,7 @@ public class GsubLookupType6 extends GsubLookupType5 {
 
         List<Set<Integer>> inputCoverages = new ArrayList<>(inputGlyphCount);
         openReader.readCoverages(inputCoverageOffsets, inputCoverages);
+        addStartGlyphs(inputCoverages.get(0));
 
         List<Set<Integer>> lookaheadCoverages = new ArrayList<>(lookaheadGlyphCount);
         openReader.readCoverages(lookaheadCoverageOffsets, lookaheadCoverages);
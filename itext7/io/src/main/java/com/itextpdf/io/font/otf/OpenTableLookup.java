@@ -44,6 +44,7 @@
 package com.itextpdf.io.font.otf;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 public abstract class OpenTableLookup implements Serializable {
 
@@ -51,7 +52,9 @@ public abstract class OpenTableLookup implements Serializable {
     protected int lookupFlag;
     protected int[] subTableLocations;
     protected OpenTypeFontTableReader openReader;
-    
+    // glyphs a match of the lookup may start with, null if the lookup doesn't declare them
+    private GlyphCoverageSet startGlyphs;
+
     protected OpenTableLookup(OpenTypeFontTableReader openReader, int lookupFlag, int[] subTableLocations) {
         this.lookupFlag = lookupFlag;
         this.subTableLocations = subTableLocations;
@@ -68,11 +71,27 @@ public abstract class OpenTableLookup implements Serializable {
         boolean changed = false;
         line.idx = line.start;
         while (line.idx < line.end && line.idx >= line.start) {
+            if (startGlyphs != null && !startGlyphs.contains(line.get(line.idx).getCode())) {
+                // no subtable of the lookup can match at this glyph, transformOne would just step over it
+                line.idx++;
+                continue;
+            }
             changed = transformOne(line) || changed;
         }
         return changed;
     }
 
+    /**
+     * Checks whether a match of this lookup may start with the glyph.
+     * If the lookup has not declared its start glyphs, any glyph is considered a possible start.
+     *
+     * @param glyphCode the code of the glyph
+     * @return false if the lookup is known not to apply at the glyph, true otherwise
+     */
+    boolean mayStartWith(int glyphCode) {
+        return startGlyphs == null || startGlyphs.contains(glyphCode);
+    }
+
     public boolean hasSubstitution(int index) {
         return false;
     }
@@ -85,6 +104,21 @@ public abstract class OpenTableLookup implements Serializable {
 
     protected abstract void readSubTable(int subTableLocation) throws java.io.IOException;
 
+    /**
+     * Declares the glyphs a match of a subtable of this lookup may start with, i.e. the glyphs of the
+     * subtable's first coverage. {@link #transformLine(GlyphLine)} steps over the other glyphs without
+     * calling {@link #transformOne(GlyphLine)}, so a lookup which declares its start glyphs shall declare
+     * them for each of its subtables.
+     *
+     * @param glyphIds the glyph ids of the coverage
+     */
+    protected void addStartGlyphs(Collection<Integer> glyphIds) {
+        if (startGlyphs == null) {
+            startGlyphs = new GlyphCoverageSet();
+        }
+        startGlyphs.addAll(glyphIds);
+    }
+
     public static class GlyphIndexer {
         public GlyphLine line;
         public Glyph glyph;
@@ -44,6 +44,7 @@
 package com.itextpdf.io.font.otf;
 
 import com.itextpdf.io.util.IntHashtable;
+import com.itextpdf.io.util.IntObjectMap;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 
 import java.io.Serializable;
@@ -66,7 +67,7 @@ public abstract class OpenTypeFontTableReader implements Serializable {
     protected List<OpenTableLookup> lookupList;
     protected OpenTypeScript scriptsType;
     protected OpenTypeFeature featuresType;
-    private final Map<Integer, Glyph> indexGlyphMap;
+    private final IntObjectMap<Glyph> indexGlyphMap;
     private final OpenTypeGdefTableReader gdef;
 
     private final int unitsPerEm;
@@ -75,7 +76,8 @@ public abstract class OpenTypeFontTableReader implements Serializable {
                                    Map<Integer, Glyph> indexGlyphMap, int unitsPerEm) throws java.io.IOException {
 		this.rf = rf;
 		this.tableLocation = tableLocation;
-        this.indexGlyphMap = indexGlyphMap;
+        this.indexGlyphMap = indexGlyphMap instanceof IntObjectMap
+                ? (IntObjectMap<Glyph>) indexGlyphMap : new IntObjectMap<Glyph>(indexGlyphMap);
         this.gdef = gdef;
         this.unitsPerEm = unitsPerEm;
 	}
@@ -328,6 +328,10 @@ public abstract class ImageData {
             logger.warn(LogMessageConstant.IMAGE_HAS_MASK);
             return false;
         }
+        if (data == null && url != null) {
+            logger.warn(LogMessageConstant.IMAGE_DATA_IS_NOT_LOADED);
+            return false;
+        }
         return true;
     }
 
@@ -420,6 +420,31 @@ public final class ImageDataFactory {
         throw new IllegalArgumentException("JPEG image expected.");
     }
 
+    /**
+     * Create a ImageData instance from a Jpeg image url.
+     * <p>
+     * If {@code lazyLoading} is true, only the JPEG markers up to the frame header are read to get the image
+     * dimensions, color space and ICC profile. The image bytes are not kept in memory: {@link ImageData#getData()}
+     * returns null and the image is read from the url again when it is written to a PDF document.
+     * The url shall therefore stay accessible and unchanged until then.
+     *
+     * @param url         URL
+     * @param lazyLoading whether the image bytes shall be read only when the image is written
+     * @return the created JPEG image
+     */
+    public static ImageData createJpeg(URL url, boolean lazyLoading) {
+        if (!lazyLoading) {
+            return createJpeg(url);
+        }
+        byte[] imageType = readImageType(url);
+        if (imageTypeIs(imageType, jpeg)) {
+            ImageData image = new JpegImageData(url);
+            JpegImageHelper.processImageHeader(image);
+            return image;
+        }
+        throw new IllegalArgumentException("JPEG image expected.");
+    }
+
     public static ImageData createJpeg(byte[] bytes) {
         byte[] imageType = readImageType(bytes);
         if (imageTypeIs(imageType, jpeg)) {
@@ -492,6 +517,56 @@ public final class ImageDataFactory {
         throw new IllegalArgumentException("TIFF image expected.");
     }
 
+    /**
+     * Creates the images of all the pages of a TIFF file. The chain of image directories is read once,
+     * instead of once per page as with {@link #createTiff(byte[], boolean, int, boolean)}.
+     * <p>
+     * A CCITT G4 page stored in a single strip keeps its original data: the strip is still decoded once
+     * to validate it, only its re-encoding is saved. With {@code recoverFromImageError} such a page is decoded
+     * and encoded again, so that a broken strip can be repaired.
+     *
+     * @param bytes                 the bytes of the TIFF file
+     * @param recoverFromImageError whether to recover from errors in the image data
+     * @param direct                whether to take single strip CCITT images as is
+     * @return the images of all the pages, in the order of the pages
+     */
+    public static List<ImageData> createTiffPages(byte[] bytes, boolean recoverFromImageError, boolean direct) {
+        List<ImageData> pages = readTiffPages(bytes, recoverFromImageError, direct);
+        for (ImageData page : pages) {
+            processTiffPage(page);
+        }
+        return pages;
+    }
+
+    /**
+     * Reads the chain of image directories of a TIFF file once and creates the images of all the pages
+     * without decoding them. Each page shall be decoded with {@link #processTiffPage(ImageData)} before it is used.
+     * The pages are independent of each other, so they can be decoded concurrently, e.g. by submitting
+     * {@link #processTiffPage(ImageData)} of every page to an executor.
+     *
+     * @param bytes                 the bytes of the TIFF file
+     * @param recoverFromImageError whether to recover from errors in the image data
+     * @param direct                whether to take single strip CCITT images as is
+     * @return the images of all the pages, in the order of the pages
+     * @see #createTiffPages(byte[], boolean, boolean)
+     */
+    public static List<ImageData> readTiffPages(byte[] bytes, boolean recoverFromImageError, boolean direct) {
+        byte[] imageType = readImageType(bytes);
+        if (imageTypeIs(imageType, tiff_1) || imageTypeIs(imageType, tiff_2)) {
+            return TiffImageHelper.readPages(bytes, recoverFromImageError, direct);
+        }
+        throw new IllegalArgumentException("TIFF image expected.");
+    }
+
+    /**
+     * Decodes a page created by {@link #readTiffPages(byte[], boolean, boolean)}.
+     *
+     * @param page the page to decode
+     */
+    public static void processTiffPage(ImageData page) {
+        TiffImageHelper.processImage(page);
+    }
+
     public static ImageData createRawImage(byte[] bytes) {
         return new RawImageData(bytes, ImageType.RAW);
     }
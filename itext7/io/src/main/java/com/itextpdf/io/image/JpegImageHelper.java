@@ -45,8 +45,10 @@ package com.itextpdf.io.image;
 
 import com.itextpdf.io.IOException;
 import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.io.util.UrlUtil;
 import com.itextpdf.io.colors.IccProfile;
 
+import java.io.BufferedInputStream;
 import java.io.InputStream;
 import com.itextpdf.io.util.MessageFormatUtil;
 import java.util.HashMap;
@@ -152,6 +154,31 @@ class JpegImageHelper {
         updateAttributes(image);
     }
 
+    /**
+     * Process the passed Image data as a JPEG image without loading the image bytes.
+     * Only the markers preceding the frame header are read from the image url.
+     *
+     * @param image the image to process as a JPEG image, its url must not be null
+     */
+    static void processImageHeader(ImageData image) {
+        if (image.getOriginalType() != ImageType.JPEG)
+            throw new IllegalArgumentException("JPEG image expected");
+        InputStream jpegStream = null;
+        try {
+            jpegStream = new BufferedInputStream(UrlUtil.openStream(image.getUrl()));
+            processParameters(jpegStream, image.getUrl().toString(), image);
+        } catch (java.io.IOException e) {
+            throw new IOException(IOException.JpegImageException, e);
+        } finally {
+            if (jpegStream != null) {
+                try {
+                    jpegStream.close();
+                } catch (java.io.IOException ignore) { }
+            }
+        }
+        updateAttributes(image);
+    }
+
     private static void updateAttributes(ImageData image) {
         image.filter = "DCTDecode";
         if (image.getColorTransform() == 0) {
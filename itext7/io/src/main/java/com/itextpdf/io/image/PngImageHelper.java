@@ -51,12 +51,14 @@ import com.itextpdf.io.colors.IccProfile;
 import com.itextpdf.io.font.PdfEncodings;
 import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.io.source.ByteBuffer;
+import com.itextpdf.io.source.DeflaterOutputStream;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import com.itextpdf.io.util.MessageFormatUtil;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -80,6 +82,10 @@ class PngImageHelper {
         Map<String, Object> additional = new HashMap<>();
         byte[] imageData;
         byte[] smask;
+        // rows are deflated as soon as they are decoded, imageData and smask hold a single row meanwhile
+        boolean deflateRows;
+        DeflaterOutputStream imageZip;
+        DeflaterOutputStream smaskZip;
         byte[] trans;
         ByteArrayOutputStream idat = new ByteArrayOutputStream();
         int dpiX;
@@ -251,6 +257,7 @@ class PngImageHelper {
                 } else {
                     RawImageHelper.updateRawImageParameters(png.image, png.width, png.height, components, bpc, png.imageData, null);
                 }
+                png.image.setDeflated(png.deflateRows);
             } else {
                 RawImageHelper.updateRawImageParameters(png.image, png.width, png.height, components, bpc, png.idat.toByteArray());
                 png.image.setDeflated(true);
@@ -271,12 +278,14 @@ class PngImageHelper {
                 RawImageData im2 = (RawImageData) ImageDataFactory.createRawImage(null);
                 RawImageHelper.updateRawImageParameters(im2, png.width, png.height, 1, 8, png.smask);
                 im2.makeMask();
+                im2.setDeflated(png.deflateRows);
                 png.image.setImageMask(im2);
             }
             if (png.genBWMask) {
                 RawImageData im2 = (RawImageData) ImageDataFactory.createRawImage(null);
                 RawImageHelper.updateRawImageParameters(im2, png.width, png.height, 1, 1, png.smask);
                 im2.makeMask();
+                im2.setDeflated(png.deflateRows);
                 png.image.setImageMask(im2);
             }
             png.image.setDpi(png.dpiX, png.dpiY);
@@ -534,40 +543,61 @@ class PngImageHelper {
         return true;
     }
 
-    private static void decodeIdat(PngParameters png) {
+    private static void decodeIdat(PngParameters png) throws java.io.IOException {
         int nbitDepth = png.bitDepth;
         if (nbitDepth == 16)
             nbitDepth = 8;
-        int size = -1;
+        int rowSize = -1;
         png.bytesPerPixel = (png.bitDepth == 16) ? 2 : 1;
         switch (png.colorType) {
             case 0:
-                size = (nbitDepth * png.width + 7) / 8 * png.height;
+                rowSize = (nbitDepth * png.width + 7) / 8;
                 break;
             case 2:
-                size = png.width * 3 * png.height;
+                rowSize = png.width * 3;
                 png.bytesPerPixel *= 3;
                 break;
             case 3:
                 if (png.interlaceMethod == 1)
-                    size = (nbitDepth * png.width + 7) / 8 * png.height;
+                    rowSize = (nbitDepth * png.width + 7) / 8;
                 png.bytesPerPixel = 1;
                 break;
             case 4:
-                size = png.width * png.height;
+                rowSize = png.width;
                 png.bytesPerPixel *= 2;
                 break;
             case 6:
-                size = png.width * 3 * png.height;
+                rowSize = png.width * 3;
                 png.bytesPerPixel *= 4;
                 break;
         }
-        if (size >= 0)
-            png.imageData = new byte[size];
+        int smaskRowSize = -1;
         if (png.palShades)
-            png.smask = new byte[png.width * png.height];
+            smaskRowSize = png.width;
         else if (png.genBWMask)
-            png.smask = new byte[(png.width + 7) / 8 * png.height];
+            smaskRowSize = (png.width + 7) / 8;
+
+        // Rows of a non-interlaced image are final once decoded, so they are deflated right away
+        // and only a single decoded row is kept in memory. 1-bit gray images are decoded in full,
+        // since they are encoded with CCITT G4 afterwards.
+        png.deflateRows = png.interlaceMethod != 1 && !(png.colorType == 0 && png.bitDepth == 1);
+        int rows = png.deflateRows ? 1 : png.height;
+        ByteArrayOutputStream imageStream = null;
+        ByteArrayOutputStream smaskStream = null;
+        if (rowSize >= 0) {
+            png.imageData = new byte[rowSize * rows];
+            if (png.deflateRows) {
+                imageStream = new ByteArrayOutputStream();
+                png.imageZip = new DeflaterOutputStream(imageStream);
+            }
+        }
+        if (smaskRowSize >= 0) {
+            png.smask = new byte[smaskRowSize * rows];
+            if (png.deflateRows) {
+                smaskStream = new ByteArrayOutputStream();
+                png.smaskZip = new DeflaterOutputStream(smaskStream);
+            }
+        }
         ByteArrayInputStream bai = new ByteArrayInputStream(png.idat.toByteArray());
         png.dataStream = FilterUtil.getInflaterInputStream(bai);
 
@@ -583,10 +613,18 @@ class PngImageHelper {
             decodePass(0, 1, 1, 2, png.width, png.height / 2, png);
         }
 
+        if (png.imageZip != null) {
+            png.imageZip.close();
+            png.imageData = imageStream.toByteArray();
+        }
+        if (png.smaskZip != null) {
+            png.smaskZip.close();
+            png.smask = smaskStream.toByteArray();
+        }
     }
 
     private static void decodePass(int xOffset, int yOffset, int xStep, int yStep,
-                                   int passWidth, int passHeight, PngParameters png) {
+                                   int passWidth, int passHeight, PngParameters png) throws java.io.IOException {
         if ((passWidth == 0) || (passHeight == 0)) {
             return;
         }
@@ -629,7 +667,12 @@ class PngImageHelper {
                     throw new IOException(IOException.UnknownPngFilter);
             }
 
-            processPixels(curr, xOffset, xStep, dstY, passWidth, png);
+            if (png.deflateRows) {
+                processPixels(curr, xOffset, xStep, 0, passWidth, png);
+                deflateRow(png);
+            } else {
+                processPixels(curr, xOffset, xStep, dstY, passWidth, png);
+            }
 
             // Swap curr and prior
             byte[] tmp = prior;
@@ -638,6 +681,18 @@ class PngImageHelper {
         }
     }
 
+    private static void deflateRow(PngParameters png) throws java.io.IOException {
+        if (png.imageZip != null) {
+            png.imageZip.write(png.imageData);
+            // pixels narrower than a byte are or-ed into the row
+            Arrays.fill(png.imageData, (byte) 0);
+        }
+        if (png.smaskZip != null) {
+            png.smaskZip.write(png.smask);
+            Arrays.fill(png.smask, (byte) 0);
+        }
+    }
+
     private static void processPixels(byte[] curr, int xOffset, int step, int y, int width, PngParameters png) {
         int srcX, dstX;
 
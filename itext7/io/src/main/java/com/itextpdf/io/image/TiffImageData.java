@@ -56,6 +56,8 @@ public class TiffImageData extends RawImageData {
     private boolean recoverFromImageError;
     private int page;
     private boolean direct;
+    // offset of the image directory of the page, zero if the directory chain has to be walked to find it
+    private long directoryOffset;
 
     protected TiffImageData(URL url, boolean recoverFromImageError, int page, boolean direct) {
         super(url, ImageType.TIFF);
@@ -113,6 +115,14 @@ public class TiffImageData extends RawImageData {
         return direct;
     }
 
+    long getDirectoryOffset() {
+        return directoryOffset;
+    }
+
+    void setDirectoryOffset(long directoryOffset) {
+        this.directoryOffset = directoryOffset;
+    }
+
     public void setOriginalType(ImageType originalType) {
         this.originalType = originalType;
     }
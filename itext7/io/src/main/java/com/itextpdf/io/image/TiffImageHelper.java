@@ -59,7 +59,9 @@ import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.io.util.FilterUtil;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 class TiffImageHelper {
@@ -107,7 +109,12 @@ class TiffImageHelper {
         if (page < 1)
             throw new IOException(IOException.PageNumberMustBeGtEq1);
         try {
-            TIFFDirectory dir = new TIFFDirectory(s, page - 1);
+            TIFFDirectory dir;
+            if (tiff.image.getDirectoryOffset() > 0) {
+                dir = new TIFFDirectory(s, tiff.image.getDirectoryOffset(), 0);
+            } else {
+                dir = new TIFFDirectory(s, page - 1);
+            }
             if (dir.isTagPresent(TIFFConstants.TIFFTAG_TILEWIDTH))
                 throw new IOException(IOException.TilesAreNotSupported);
             int compression = TIFFConstants.COMPRESSION_NONE;
@@ -209,6 +216,16 @@ class TiffImageHelper {
                 s.readFully(im);
                 RawImageHelper.updateRawImageParameters(tiff.image, w, h, false, imagecomp, parameters, im, null);
                 tiff.image.setInverted(true);
+            } else if (compression == TIFFConstants.COMPRESSION_CCITTFAX4 && tiffT6Options == 0
+                    && offset.length == 1 && rowsStrip == h && !recoverFromImageError) {
+                // a single G4 strip is exactly what CCITTFaxDecode expects, so it is decoded only to validate it
+                // and is not encoded again. Broken strips, which may be recovered, go through the decoder below
+                byte[] im = new byte[(int) size[0]];
+                s.seek(offset[0]);
+                s.readFully(im);
+                new TIFFFaxDecoder(fillOrder, w, h).decodeT6(new byte[(w + 7) / 8 * h], im, 0, h, tiffT6Options);
+                RawImageHelper.updateRawImageParameters(tiff.image, w, h, reverse, RawImageData.CCITTG4,
+                        parameters & RawImageData.CCITT_BLACKIS1, im, null);
             } else {
                 int rowsLeft = h;
                 CCITTG4Encoder g4 = new CCITTG4Encoder(w);
@@ -593,6 +610,29 @@ class TiffImageHelper {
         }
     }
 
+    /**
+     * Creates the images of all the pages of a TIFF file, which are not processed yet.
+     * The chain of image directories is walked once, every page then reads the shared bytes
+     * through its own RandomAccessFileOrArray from the offset of its directory.
+     */
+    static List<ImageData> readPages(byte[] bytes, boolean recoverFromImageError, boolean direct) {
+        long[] directoryOffsets;
+        try {
+            RandomAccessFileOrArray raf = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(bytes));
+            directoryOffsets = TIFFDirectory.getDirectoryOffsets(raf);
+            raf.close();
+        } catch (java.io.IOException e) {
+            throw new IOException(IOException.TiffImageException, e);
+        }
+        List<ImageData> pages = new ArrayList<>(directoryOffsets.length);
+        for (int i = 0; i < directoryOffsets.length; i++) {
+            TiffImageData page = new TiffImageData(bytes, recoverFromImageError, i + 1, direct);
+            page.setDirectoryOffset(directoryOffsets[i]);
+            pages.add(page);
+        }
+        return pages;
+    }
+
     private static int getDpi(TIFFField fd, int resolutionUnit) {
         if (fd == null)
             return 0;
@@ -0,0 +1,299 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map with primitive int keys, tuned for dense keys such as glyph ids and unicode code points.
+ * <p>
+ * Keys in range [0; {@link #MAX_PAGED_KEY}] are stored in pages of 256 values, allocated on first use,
+ * so that a lookup is two array accesses and no key is boxed. Other keys are kept in a regular
+ * {@link HashMap}. The int overloads of {@link #get(int)}, {@link #put(int, Object)},
+ * {@link #containsKey(int)} and {@link #remove(int)} should be preferred; the {@link Map}
+ * methods are kept for compatibility with the code that works with the generic map.
+ * <p>
+ * Null values are supported, as in {@link HashMap}.
+ * Iteration goes in ascending key order for the paged keys; its iterator does not support removal.
+ *
+ * @param <V> the type of mapped values
+ */
+public class IntObjectMap<V> extends AbstractMap<Integer, V> implements Serializable {
+
+    /**
+     * The largest key which is stored in pages, the largest unicode code point.
+     */
+    public static final int MAX_PAGED_KEY = 0x10FFFF;
+
+    private static final long serialVersionUID = 2391466512546226442L;
+
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    // a null value is stored in the pages as NullValue.INSTANCE, as null stands for no mapping
+    private Object[][] pages;
+    private Map<Integer, V> otherKeys;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntObjectMap() {
+        pages = new Object[0][];
+    }
+
+    /**
+     * Creates a map with the same mappings as the given one.
+     *
+     * @param map the map whose mappings are to be placed in this map
+     */
+    public IntObjectMap(Map<Integer, ? extends V> map) {
+        this();
+        putAll(map);
+    }
+
+    /**
+     * Gets the value mapped to the key.
+     *
+     * @param key the key
+     * @return the mapped value or null if there is no mapping for the key
+     */
+    public V get(int key) {
+        if (key >= 0 && key <= MAX_PAGED_KEY) {
+            int pageIndex = key >> PAGE_SHIFT;
+            if (pageIndex >= pages.length || pages[pageIndex] == null) {
+                return null;
+            }
+            return unmask(pages[pageIndex][key & (PAGE_SIZE - 1)]);
+        }
+        return otherKeys != null ? otherKeys.get(key) : null;
+    }
+
+    /**
+     * Maps the value to the key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the value previously mapped to the key or null if there was no mapping
+     */
+    public V put(int key, V value) {
+        if (key >= 0 && key <= MAX_PAGED_KEY) {
+            int pageIndex = key >> PAGE_SHIFT;
+            if (pageIndex >= pages.length) {
+                pages = Arrays.copyOf(pages, Math.max(pageIndex + 1, Math.min(pages.length * 2, (MAX_PAGED_KEY >> PAGE_SHIFT) + 1)));
+            }
+            Object[] page = pages[pageIndex];
+            if (page == null) {
+                page = new Object[PAGE_SIZE];
+                pages[pageIndex] = page;
+            }
+            Object previous = page[key & (PAGE_SIZE - 1)];
+            page[key & (PAGE_SIZE - 1)] = value != null ? value : NullValue.INSTANCE;
+            if (previous == null) {
+                size++;
+            }
+            return unmask(previous);
+        }
+        if (otherKeys == null) {
+            otherKeys = new HashMap<>();
+        }
+        if (!otherKeys.containsKey(key)) {
+            size++;
+        }
+        return otherKeys.put(key, value);
+    }
+
+    /**
+     * Checks whether there is a mapping for the key.
+     *
+     * @param key the key
+     * @return true if the key is mapped, otherwise false
+     */
+    public boolean containsKey(int key) {
+        if (key >= 0 && key <= MAX_PAGED_KEY) {
+            int pageIndex = key >> PAGE_SHIFT;
+            return pageIndex < pages.length && pages[pageIndex] != null
+                    && pages[pageIndex][key & (PAGE_SIZE - 1)] != null;
+        }
+        return otherKeys != null && otherKeys.containsKey(key);
+    }
+
+    /**
+     * Removes the mapping for the key.
+     *
+     * @param key the key
+     * @return the removed value or null if there was no mapping
+     */
+    public V remove(int key) {
+        if (!containsKey(key)) {
+            return null;
+        }
+        size--;
+        if (key >= 0 && key <= MAX_PAGED_KEY) {
+            Object[] page = pages[key >> PAGE_SHIFT];
+            Object previous = page[key & (PAGE_SIZE - 1)];
+            page[key & (PAGE_SIZE - 1)] = null;
+            return unmask(previous);
+        }
+        return otherKeys.remove(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return key instanceof Integer ? get((int) (Integer) key) : null;
+    }
+
+    @Override
+    public V put(Integer key, V value) {
+        return put((int) key, value);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer && containsKey((int) (Integer) key);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return key instanceof Integer ? remove((int) (Integer) key) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        pages = new Object[0][];
+        otherKeys = null;
+        size = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, V>> entrySet() {
+        return new AbstractSet<Map.Entry<Integer, V>>() {
+            @Override
+            public Iterator<Map.Entry<Integer, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V unmask(Object value) {
+        return value == NullValue.INSTANCE ? null : (V) value;
+    }
+
+    private enum NullValue {
+        INSTANCE
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<Integer, V>> {
+        private int nextKey = -1;
+        private Iterator<Map.Entry<Integer, V>> otherKeysIterator;
+
+        EntryIterator() {
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextKey <= MAX_PAGED_KEY || otherKeysIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<Integer, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (nextKey > MAX_PAGED_KEY) {
+                return otherKeysIterator.next();
+            }
+            Map.Entry<Integer, V> entry = new SimpleImmutableEntry<>(nextKey, get(nextKey));
+            advance();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void advance() {
+            int key = nextKey + 1;
+            while (key <= MAX_PAGED_KEY) {
+                int pageIndex = key >> PAGE_SHIFT;
+                if (pageIndex >= pages.length) {
+                    key = MAX_PAGED_KEY + 1;
+                } else if (pages[pageIndex] == null) {
+                    key = (pageIndex + 1) << PAGE_SHIFT;
+                } else if (pages[pageIndex][key & (PAGE_SIZE - 1)] == null) {
+                    key++;
+                } else {
+                    break;
+                }
+            }
+            nextKey = key;
+            if (key > MAX_PAGED_KEY && otherKeysIterator == null) {
+                otherKeysIterator = otherKeys != null ? otherKeys.entrySet().iterator()
+                        : Collections.<Map.Entry<Integer, V>>emptyIterator();
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe map with a limited number of entries, which evicts the least recently used entries
+ * when the limit is exceeded. The capacity of zero disables the cache: nothing is stored and all the
+ * lookups fail.
+ * <p>
+ * Note that this class is for internal usage only; it is the storage of the opt-in caches shared by
+ * all documents.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of cached values
+ */
+public final class LruCache<K, V> {
+
+    private final Map<K, V> entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+        private static final long serialVersionUID = -4542476395306244367L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    private volatile int capacity;
+
+    /**
+     * Creates a disabled cache.
+     */
+    public LruCache() {
+    }
+
+    /**
+     * Sets the maximum number of cached entries. Zero disables the cache.
+     * If more entries are cached, the least recently used ones are removed.
+     *
+     * @param capacity the maximum number of cached entries
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity");
+        }
+        synchronized (entries) {
+            this.capacity = capacity;
+            Iterator<K> keys = entries.keySet().iterator();
+            while (entries.size() > capacity) {
+                keys.next();
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the maximum number of cached entries.
+     *
+     * @return the maximum number of cached entries, zero if the cache is disabled
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Checks whether the cache is enabled, i.e. its capacity is positive.
+     *
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * Gets the cached value and marks it as the most recently used one.
+     *
+     * @param key the key of the value
+     * @return the cached value, or null if there is no such value or the cache is disabled
+     */
+    public V get(K key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Caches the value, unless the cache is disabled. Null values are not cached.
+     *
+     * @param key   the key of the value
+     * @param value the value to cache
+     */
+    public void put(K key, V value) {
+        if (!isEnabled() || value == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, value);
+        }
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the number of cached entries
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
@@ -68,6 +68,7 @@ public final class StreamUtil {
     private static final byte[] escT = ByteUtils.getIsoBytes("\\t");
     private static final byte[] escB = ByteUtils.getIsoBytes("\\b");
     private static final byte[] escF = ByteUtils.getIsoBytes("\\f");
+    private static final byte[] HEX_DIGITS = ByteUtils.getIsoBytes("0123456789abcdef");
 
     private StreamUtil() {
     }
@@ -109,7 +110,19 @@ public final class StreamUtil {
      * @param bytes the {@code byte} array to escape.
      */
     public static void writeEscapedString(OutputStream outputStream, byte[] bytes) {
-        ByteBuffer buf = createBufferedEscapedString(bytes);
+        writeEscapedString(outputStream, bytes, 0, bytes.length);
+    }
+
+    /**
+     * Escapes a part of a {@code byte} array according to the PDF conventions.
+     *
+     * @param outputStream the {@code OutputStream} an escaped {@code byte} array write to.
+     * @param bytes the {@code byte} array to escape.
+     * @param offset the index of the first byte to escape.
+     * @param length the number of bytes to escape.
+     */
+    public static void writeEscapedString(OutputStream outputStream, byte[] bytes, int offset, int length) {
+        ByteBuffer buf = createBufferedEscapedString(bytes, offset, length);
         try {
             outputStream.write(buf.getInternalBuffer(), 0, buf.size());
         } catch (java.io.IOException e) {
@@ -118,18 +131,50 @@ public final class StreamUtil {
     }
 
     public static void writeHexedString(OutputStream outputStream, byte[] bytes) {
-        ByteBuffer buf = createBufferedHexedString(bytes);
+        writeHexedString(outputStream, bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a part of a {@code byte} array as a hexadecimal PDF string.
+     *
+     * @param outputStream the {@code OutputStream} the hexadecimal string write to.
+     * @param bytes the {@code byte} array to write.
+     * @param offset the index of the first byte to write.
+     * @param length the number of bytes to write.
+     */
+    public static void writeHexedString(OutputStream outputStream, byte[] bytes, int offset, int length) {
+        byte[] hexed = new byte[length * 2 + 2];
+        int ptr = 0;
+        hexed[ptr++] = (byte) '<';
+        for (int i = offset; i < offset + length; i++) {
+            hexed[ptr++] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            hexed[ptr++] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        hexed[ptr] = (byte) '>';
         try {
-            outputStream.write(buf.getInternalBuffer(), 0, buf.size());
+            outputStream.write(hexed, 0, hexed.length);
         } catch (java.io.IOException e) {
             throw new com.itextpdf.io.IOException(com.itextpdf.io.IOException.CannotWriteBytes, e);
         }
     }
 
     public static ByteBuffer createBufferedEscapedString(byte[] bytes) {
-        ByteBuffer buf = new ByteBuffer(bytes.length * 2 + 2);
+        return createBufferedEscapedString(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Escapes a part of a {@code byte} array according to the PDF conventions.
+     *
+     * @param bytes the {@code byte} array to escape.
+     * @param offset the index of the first byte to escape.
+     * @param length the number of bytes to escape.
+     * @return a {@link ByteBuffer} with the escaped string, enclosed in parentheses.
+     */
+    public static ByteBuffer createBufferedEscapedString(byte[] bytes, int offset, int length) {
+        ByteBuffer buf = new ByteBuffer(length * 2 + 2);
         buf.append('(');
-        for (byte b : bytes) {
+        for (int i = offset; i < offset + length; i++) {
+            byte b = bytes[i];
             switch (b) {
                 case (byte) '\r':
                     buf.append(escR);
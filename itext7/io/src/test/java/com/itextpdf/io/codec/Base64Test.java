@@ -0,0 +1,105 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.codec;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+@Category(UnitTest.class)
+public class Base64Test extends ExtendedITextTest {
+
+    @Test
+    public void outputStreamBlockWriteTest() throws IOException {
+        byte[] data = new byte[10000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 31 + i / 7);
+        }
+        for (int options : new int[] {Base64.ENCODE, Base64.ENCODE | Base64.DONT_BREAK_LINES, Base64.ENCODE | Base64.URL_SAFE}) {
+            ByteArrayOutputStream byteByByte = new ByteArrayOutputStream();
+            Base64.OutputStream stream = new Base64.OutputStream(byteByByte, options);
+            for (byte b : data) {
+                stream.write(b);
+            }
+            stream.close();
+
+            ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+            stream = new Base64.OutputStream(blocks, options);
+            int offset = 0;
+            for (int length = 1; offset < data.length; length += 7) {
+                int n = Math.min(length, data.length - offset);
+                stream.write(data, offset, n);
+                offset += n;
+            }
+            stream.close();
+
+            Assert.assertArrayEquals(byteByByte.toByteArray(), blocks.toByteArray());
+            Assert.assertArrayEquals(data, Base64.decode(blocks.toByteArray(), 0, blocks.size(), options & Base64.URL_SAFE));
+        }
+    }
+
+    @Test
+    public void inputStreamDecodeTest() throws IOException {
+        byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        byte[] encoded = Base64.encodeBytes(data).getBytes("ISO-8859-1");
+        Base64.InputStream stream = new Base64.InputStream(new ByteArrayInputStream(encoded));
+        byte[] decoded = new byte[data.length];
+        int offset = 0;
+        int n;
+        while ((n = stream.read(decoded, offset, Math.min(77, decoded.length - offset))) > 0) {
+            offset += n;
+        }
+        Assert.assertEquals(data.length, offset);
+        Assert.assertArrayEquals(data, decoded);
+        Assert.assertEquals(-1, stream.read());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.codec;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class CCITTG4EncoderTest extends ExtendedITextTest {
+
+    @Test
+    public void encodeWhiteLineTest() {
+        byte[] encoded = CCITTG4Encoder.compress(new byte[2], 16, 1);
+        // vertical mode V0 code followed by two EOL codes
+        Assert.assertArrayEquals(new byte[] {(byte) 0x80, 0x08, 0x00, (byte) 0x80}, encoded);
+    }
+
+    @Test
+    public void roundTripTest() {
+        int[][] sizes = {{1, 3}, {8, 8}, {13, 7}, {100, 50}, {1701, 40}};
+        for (int[] size : sizes) {
+            int width = size[0];
+            int height = size[1];
+            byte[] image = createImage(width, height, width);
+            byte[] encoded = CCITTG4Encoder.compress(image, width, height);
+
+            byte[] decoded = new byte[image.length];
+            new TIFFFaxDecoder(1, width, height).decodeT6(decoded, encoded, 0, height, 0);
+            Assert.assertArrayEquals(image, decoded);
+        }
+    }
+
+    @Test
+    public void encodeInChunksTest() {
+        int width = 333;
+        int height = 60;
+        int rowBytes = (width + 7) / 8;
+        byte[] image = createImage(width, height, 7);
+
+        CCITTG4Encoder encoder = new CCITTG4Encoder(width);
+        encoder.fax4Encode(image, 0, rowBytes * 25);
+        encoder.fax4Encode(image, rowBytes * 25, rowBytes * (height - 25));
+        Assert.assertArrayEquals(CCITTG4Encoder.compress(image, width, height), encoder.close());
+    }
+
+    @Test
+    public void decompressorRoundTripTest() {
+        int width = 256;
+        int height = 32;
+        byte[] image = createImage(width, height, 11);
+        byte[] encoded = CCITTG4Encoder.compress(image, width, height);
+
+        byte[] decoded = new byte[image.length];
+        TIFFFaxDecompressor decompressor = new TIFFFaxDecompressor();
+        decompressor.SetOptions(1, TIFFConstants.COMPRESSION_CCITTFAX4, 0, 0);
+        decompressor.decodeRaw(decoded, encoded, width, height);
+        Assert.assertArrayEquals(image, decoded);
+    }
+
+    private static byte[] createImage(int width, int height, long seed) {
+        Random random = new Random(seed);
+        int rowBytes = (width + 7) / 8;
+        byte[] image = new byte[rowBytes * height];
+        // black blocks of various sizes, starting and ending anywhere within a byte
+        for (int k = 0; k < width * height / 100 + 1; k++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            int blockWidth = 1 + random.nextInt(Math.max(1, width / 4));
+            int blockHeight = 1 + random.nextInt(5);
+            for (int row = y; row < Math.min(height, y + blockHeight); row++) {
+                for (int column = x; column < Math.min(width, x + blockWidth); column++) {
+                    image[row * rowBytes + (column >> 3)] |= (byte) (0x80 >> (column & 7));
+                }
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.font;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+
+@Category(UnitTest.class)
+public class DecodedWebFontCacheTest extends ExtendedITextTest {
+
+    @Rule
+    public ExpectedException junitExpectedException = ExpectedException.none();
+
+    private static final String sourceFolder = "./src/test/resources/com/itextpdf/io/font/woff2/w3c/format/";
+
+    @After
+    public void resetCache() {
+        DecodedWebFontCache.setCapacity(0);
+        DecodedWebFontCache.clear();
+    }
+
+    @Test
+    public void disabledByDefaultTest() throws IOException {
+        byte[] woff2 = FontProgramFactory.readFontBytesFromPath(sourceFolder + "directory-table-order-001.woff2");
+        byte[] first = FontProgramFactory.decodeWoff2Font(woff2);
+        byte[] second = FontProgramFactory.decodeWoff2Font(woff2);
+        Assert.assertNotSame(first, second);
+        Assert.assertArrayEquals(first, second);
+        Assert.assertEquals(0, DecodedWebFontCache.size());
+    }
+
+    @Test
+    public void decodedFontIsReusedTest() throws IOException {
+        DecodedWebFontCache.setCapacity(4);
+        byte[] woff2 = FontProgramFactory.readFontBytesFromPath(sourceFolder + "directory-table-order-001.woff2");
+        byte[] first = FontProgramFactory.decodeWoff2Font(woff2);
+        // the same content read once more must hit the cache as well
+        byte[] otherWoff2 = FontProgramFactory.readFontBytesFromPath(sourceFolder + "directory-table-order-001.woff2");
+        byte[] second = FontProgramFactory.decodeWoff2Font(otherWoff2);
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, DecodedWebFontCache.size());
+    }
+
+    @Test
+    public void leastRecentlyUsedFontIsEvictedTest() throws IOException {
+        DecodedWebFontCache.setCapacity(1);
+        byte[] firstWoff2 = FontProgramFactory.readFontBytesFromPath(sourceFolder + "directory-table-order-001.woff2");
+        byte[] secondWoff2 = FontProgramFactory.readFontBytesFromPath(sourceFolder + "blocks-metadata-padding-002.woff2");
+        byte[] first = FontProgramFactory.decodeWoff2Font(firstWoff2);
+        FontProgramFactory.decodeWoff2Font(secondWoff2);
+        Assert.assertEquals(1, DecodedWebFontCache.size());
+        Assert.assertNotSame(first, FontProgramFactory.decodeWoff2Font(firstWoff2));
+    }
+
+    @Test
+    public void negativeCapacityTest() {
+        junitExpectedException.expect(IllegalArgumentException.class);
+        DecodedWebFontCache.setCapacity(-1);
+    }
+}
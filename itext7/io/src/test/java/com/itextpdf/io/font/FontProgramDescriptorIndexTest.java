@@ -0,0 +1,163 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.font;
+
+import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+
+@Category(UnitTest.class)
+public class FontProgramDescriptorIndexTest extends ExtendedITextTest {
+
+    private static final String sourceFolder = "./src/test/resources/com/itextpdf/io/font/otf/";
+    private static final String destinationFolder = "./target/test/com/itextpdf/io/font/FontProgramDescriptorIndexTest/";
+
+    @BeforeClass
+    public static void beforeClass() {
+        createOrClearDestinationFolder(destinationFolder);
+    }
+
+    @After
+    public void after() {
+        FontProgramDescriptorFactory.setDescriptorIndex(null);
+    }
+
+    @Test
+    public void descriptorIsIndexedAndSavedTest() throws IOException {
+        String fontPath = copyFont("FreeSans.ttf", "indexed.ttf");
+        FontProgramDescriptorIndex index = new FontProgramDescriptorIndex();
+        FontProgramDescriptorFactory.setDescriptorIndex(index);
+
+        FontProgramDescriptor descriptor = FontProgramDescriptorFactory.fetchDescriptor(fontPath);
+        Assert.assertEquals(1, index.size());
+        Assert.assertSame(descriptor, FontProgramDescriptorFactory.fetchDescriptor(fontPath));
+
+        String indexPath = destinationFolder + "descriptors.idx";
+        index.save(indexPath);
+        FontProgramDescriptorIndex loaded = FontProgramDescriptorIndex.load(indexPath);
+        Assert.assertEquals(1, loaded.size());
+        FontProgramDescriptor loadedDescriptor = loaded.get(fontPath);
+        Assert.assertNotNull(loadedDescriptor);
+        Assert.assertEquals(descriptor.getFontName(), loadedDescriptor.getFontName());
+        Assert.assertEquals(descriptor.getFullNameAllLangs(), loadedDescriptor.getFullNameAllLangs());
+        Assert.assertEquals(descriptor.getFontWeight(), loadedDescriptor.getFontWeight());
+    }
+
+    @Test
+    public void changedFileIsNotTakenFromIndexTest() throws IOException {
+        String fontPath = copyFont("FreeSans.ttf", "changed.ttf");
+        FontProgramDescriptorIndex index = new FontProgramDescriptorIndex();
+        index.put(fontPath, FontProgramDescriptorFactory.fetchDescriptor(fontPath));
+        Assert.assertNotNull(index.get(fontPath));
+
+        copyFont("FreeSansBold.ttf", "changed.ttf");
+        FontProgramDescriptorFactory.setDescriptorIndex(index);
+
+        Assert.assertNull(index.get(fontPath));
+        Assert.assertEquals("FreeSansBold", FontProgramDescriptorFactory.fetchDescriptor(fontPath).getFontName());
+        Assert.assertEquals("FreeSansBold", index.get(fontPath).getFontName());
+    }
+
+    @Test
+    public void builtinFontIsNotIndexedTest() {
+        FontProgramDescriptorIndex index = new FontProgramDescriptorIndex();
+        FontProgramDescriptorFactory.setDescriptorIndex(index);
+
+        Assert.assertNotNull(FontProgramDescriptorFactory.fetchDescriptor("Helvetica"));
+        Assert.assertEquals(0, index.size());
+    }
+
+    @Test
+    public void missingIndexFileTest() {
+        Assert.assertEquals(0, FontProgramDescriptorIndex.load(destinationFolder + "missing.idx").size());
+    }
+
+    @Test
+    public void serializedObjectFileIsNotReadTest() throws IOException {
+        // the index is not read with Java serialization, so serialized objects are never instantiated
+        String indexPath = destinationFolder + "serialized.idx";
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(indexPath))) {
+            out.writeObject(new HashMap<String, Object>());
+        }
+        Assert.assertEquals(0, FontProgramDescriptorIndex.load(indexPath).size());
+    }
+
+    @Test
+    public void truncatedIndexFileTest() throws IOException {
+        String fontPath = copyFont("FreeSans.ttf", "truncated.ttf");
+        FontProgramDescriptorIndex index = new FontProgramDescriptorIndex();
+        index.put(fontPath, FontProgramDescriptorFactory.fetchDescriptor(fontPath));
+        String indexPath = destinationFolder + "truncated.idx";
+        index.save(indexPath);
+
+        File indexFile = new File(indexPath);
+        byte[] bytes = Files.readAllBytes(indexFile.toPath());
+        Files.write(indexFile.toPath(), Arrays.copyOf(bytes, bytes.length - 10));
+        Assert.assertEquals(0, FontProgramDescriptorIndex.load(indexPath).size());
+    }
+
+    private static String copyFont(String fontName, String fileName) throws IOException {
+        File target = new File(destinationFolder + fileName);
+        try (InputStream in = new FileInputStream(sourceFolder + fontName);
+             OutputStream out = new FileOutputStream(target)) {
+            StreamUtil.transferBytes(in, out);
+        }
+        return target.getPath();
+    }
+}
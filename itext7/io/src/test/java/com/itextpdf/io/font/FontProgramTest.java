@@ -98,6 +98,19 @@ public class FontProgramTest extends ExtendedITextTest {
         Assert.assertEquals(0, cacheSize);
     }
 
+    @Test
+    public void openTypeLayoutTablesAreReadOnDemandTest() throws Exception {
+        TrueTypeFont fp = new TrueTypeFont("./src/test/resources/com/itextpdf/io/font/otf/FreeSans.ttf");
+        Field gsubField = TrueTypeFont.class.getDeclaredField("gsubTable");
+        gsubField.setAccessible(true);
+        Assert.assertNull(gsubField.get(fp));
+
+        Assert.assertNotNull(fp.getGsubTable());
+        Assert.assertNotNull(fp.getGposTable());
+        Assert.assertNotNull(fp.getGdefTable());
+        Assert.assertSame(fp.getGsubTable(), gsubField.get(fp));
+    }
+
     @Test
     public void registerDirectoryType1Test() throws IOException {
         FontProgramFactory.registerFontDirectory("./src/test/resources/com/itextpdf/io/font/type1/");
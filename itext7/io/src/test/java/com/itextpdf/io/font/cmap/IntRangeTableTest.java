@@ -0,0 +1,111 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.font.cmap;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class IntRangeTableTest extends ExtendedITextTest {
+
+    @Test
+    public void consecutiveMappingsAreMergedTest() {
+        IntRangeTable table = new IntRangeTable();
+        for (int i = 0; i < 100; i++) {
+            table.put(0x4E00 + i, 1000 + i);
+        }
+        table.put(0x20, 1);
+        table.put(0x21, 5);
+
+        Assert.assertEquals(102, table.size());
+        Assert.assertEquals(3, table.getRangeCount());
+        Assert.assertEquals(1, table.get(0x20));
+        Assert.assertEquals(5, table.get(0x21));
+        Assert.assertEquals(1000, table.get(0x4E00));
+        Assert.assertEquals(1042, table.get(0x4E2A));
+        Assert.assertEquals(1099, table.get(0x4E63));
+    }
+
+    @Test
+    public void missingKeyTest() {
+        IntRangeTable table = new IntRangeTable();
+        Assert.assertEquals(0, table.get(10));
+
+        table.put(10, 20);
+        table.put(12, 22);
+        Assert.assertEquals(0, table.get(9));
+        Assert.assertEquals(0, table.get(11));
+        Assert.assertEquals(0, table.get(13));
+        Assert.assertEquals(22, table.get(12));
+    }
+
+    @Test
+    public void lastMappingOfKeyWinsTest() {
+        IntRangeTable table = new IntRangeTable();
+        table.put(3, 30);
+        table.put(4, 40);
+        table.put(3, 31);
+
+        Assert.assertEquals(2, table.size());
+        Assert.assertEquals(31, table.get(3));
+        Assert.assertEquals(40, table.get(4));
+    }
+
+    @Test
+    public void putAfterLookupTest() {
+        IntRangeTable table = new IntRangeTable();
+        table.put(1, 1);
+        table.put(2, 2);
+        Assert.assertEquals(2, table.get(2));
+
+        table.put(2, 7);
+        table.put(5, 5);
+        Assert.assertEquals(1, table.get(1));
+        Assert.assertEquals(7, table.get(2));
+        Assert.assertEquals(5, table.get(5));
+        Assert.assertArrayEquals(new int[] {1, 2, 5}, table.toOrderedKeys());
+    }
+}
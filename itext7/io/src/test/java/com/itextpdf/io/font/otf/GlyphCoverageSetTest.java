@@ -0,0 +1,183 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.font.otf;
+
+import com.itextpdf.io.font.TrueTypeFont;
+import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.ExpectedException;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Category(UnitTest.class)
+public class GlyphCoverageSetTest extends ExtendedITextTest {
+
+    @Rule
+    public ExpectedException junitExpectedException = ExpectedException.none();
+
+    @Test
+    public void containsTest() {
+        GlyphCoverageSet coverage = new GlyphCoverageSet(Arrays.asList(300, 5, 64, 63, 300));
+
+        Assert.assertEquals(4, coverage.size());
+        Assert.assertTrue(coverage.contains(5));
+        Assert.assertTrue(coverage.contains(63));
+        Assert.assertTrue(coverage.contains(64));
+        Assert.assertTrue(coverage.contains((Object) 300));
+        Assert.assertFalse(coverage.contains(0));
+        Assert.assertFalse(coverage.contains(299));
+        Assert.assertFalse(coverage.contains(100000));
+        Assert.assertFalse(coverage.contains(-1));
+        Assert.assertFalse(coverage.contains("5"));
+    }
+
+    @Test
+    public void iterationGoesInAscendingOrderTest() {
+        GlyphCoverageSet coverage = new GlyphCoverageSet(Arrays.asList(1000, 130, 129, 7, 65535));
+
+        Assert.assertEquals(Arrays.asList(7, 129, 130, 1000, 65535), new ArrayList<>(coverage));
+    }
+
+    @Test
+    public void sparseCoverageTest() {
+        GlyphCoverageSet coverage = new GlyphCoverageSet(Arrays.asList(65000, 5));
+
+        Assert.assertTrue(coverage.isSparse());
+        Assert.assertEquals(2, coverage.size());
+        Assert.assertTrue(coverage.contains(5));
+        Assert.assertTrue(coverage.contains(65000));
+        Assert.assertFalse(coverage.contains(6));
+        Assert.assertFalse(coverage.contains(-1));
+        Assert.assertFalse(coverage.add(5));
+        Assert.assertEquals(Arrays.asList(5, 65000), new ArrayList<>(coverage));
+    }
+
+    @Test
+    public void sparseCoverageBecomesDenseTest() {
+        GlyphCoverageSet coverage = new GlyphCoverageSet(Arrays.asList(3000, 10));
+        Assert.assertTrue(coverage.isSparse());
+
+        Set<Integer> expected = new TreeSet<>(Arrays.asList(3000, 10));
+        for (int glyphId = 3000; glyphId > 0; glyphId -= 7) {
+            coverage.add(glyphId);
+            expected.add(glyphId);
+        }
+        Assert.assertFalse(coverage.isSparse());
+        Assert.assertEquals(expected.size(), coverage.size());
+        Assert.assertEquals(new ArrayList<>(expected), new ArrayList<>(coverage));
+        for (int glyphId = 0; glyphId <= 3001; glyphId++) {
+            Assert.assertEquals(expected.contains(glyphId), coverage.contains(glyphId));
+        }
+    }
+
+    @Test
+    public void randomCoverageTest() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            GlyphCoverageSet coverage = new GlyphCoverageSet();
+            Set<Integer> expected = new TreeSet<>();
+            int bound = 1 + random.nextInt(70000);
+            int count = random.nextInt(200);
+            for (int j = 0; j < count; j++) {
+                int glyphId = random.nextInt(bound);
+                Assert.assertEquals(expected.add(glyphId), coverage.add(glyphId));
+            }
+            Assert.assertEquals(expected.size(), coverage.size());
+            Assert.assertEquals(new ArrayList<>(expected), new ArrayList<>(coverage));
+            for (int glyphId : expected) {
+                Assert.assertTrue(coverage.contains(glyphId));
+                Assert.assertEquals(expected.contains(glyphId + 1), coverage.contains(glyphId + 1));
+            }
+        }
+    }
+
+    @Test
+    public void negativeGlyphIdTest() {
+        junitExpectedException.expect(IllegalArgumentException.class);
+        new GlyphCoverageSet().add(-1);
+    }
+
+    @Test
+    public void lookupIsSkippedForUncoveredGlyphsTest() throws IOException {
+        byte[] ttf = StreamUtil.inputStreamToArray(new FileInputStream("./src/test/resources/com/itextpdf/io/font/otf/FreeSans.ttf"));
+        TrueTypeFont font = new TrueTypeFont(ttf);
+        OpenTableLookup lookup = new GsubLookupType1(font.getGsubTable(), 0, new int[0]) {
+            @Override
+            public boolean transformOne(GlyphLine line) {
+                Assert.assertTrue(mayStartWith(line.get(line.idx).getCode()));
+                line.substituteOneToOne(openReader, font.getGlyph('b').getCode());
+                line.idx++;
+                return true;
+            }
+        };
+        Assert.assertTrue(lookup.mayStartWith(font.getGlyph('x').getCode()));
+
+        lookup.addStartGlyphs(Arrays.asList(font.getGlyph('a').getCode()));
+        Assert.assertFalse(lookup.mayStartWith(font.getGlyph('x').getCode()));
+
+        List<Glyph> glyphs = new ArrayList<>();
+        for (char c : "xaxa".toCharArray()) {
+            glyphs.add(font.getGlyph(c));
+        }
+        GlyphLine line = new GlyphLine(glyphs);
+        Assert.assertTrue(lookup.transformLine(line));
+        int x = font.getGlyph('x').getCode();
+        int b = font.getGlyph('b').getCode();
+        Assert.assertEquals(x, line.get(0).getCode());
+        Assert.assertEquals(b, line.get(1).getCode());
+        Assert.assertEquals(x, line.get(2).getCode());
+        Assert.assertEquals(b, line.get(3).getCode());
+    }
+}
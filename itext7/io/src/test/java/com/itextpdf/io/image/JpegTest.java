@@ -44,7 +44,11 @@ package com.itextpdf.io.image;
 
 import java.io.IOException;
 
+import com.itextpdf.io.LogMessageConstant;
+import com.itextpdf.io.util.UrlUtil;
 import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.LogMessage;
+import com.itextpdf.test.annotations.LogMessages;
 import com.itextpdf.test.annotations.type.UnitTest;
 import org.junit.Assert;
 import org.junit.Test;
@@ -102,4 +106,21 @@ public class JpegTest extends ExtendedITextTest {
         Assert.assertEquals(1456, img.getHeight(), 0);
         Assert.assertEquals(8, img.getBpc());
     }
+
+    @Test
+    @LogMessages(messages = @LogMessage(messageTemplate = LogMessageConstant.IMAGE_DATA_IS_NOT_LOADED))
+    public void lazyLoadedJpegTest() throws IOException {
+        String fileName = sourceFolder + "WP_20140410_001_gray.jpg";
+        ImageData loaded = ImageDataFactory.createJpeg(UrlUtil.toURL(fileName));
+        ImageData img = ImageDataFactory.createJpeg(UrlUtil.toURL(fileName), true);
+        Assert.assertNull(img.getData());
+        Assert.assertEquals(loaded.getWidth(), img.getWidth(), 0);
+        Assert.assertEquals(loaded.getHeight(), img.getHeight(), 0);
+        Assert.assertEquals(loaded.getBpc(), img.getBpc());
+        Assert.assertEquals(loaded.getColorSpace(), img.getColorSpace());
+        Assert.assertEquals(loaded.getDpiX(), img.getDpiX());
+        Assert.assertEquals(loaded.getDpiY(), img.getDpiY());
+        Assert.assertEquals(loaded.getFilter(), img.getFilter());
+        Assert.assertFalse(img.canImageBeInline());
+    }
 }
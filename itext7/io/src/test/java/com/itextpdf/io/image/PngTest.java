@@ -0,0 +1,89 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.image;
+
+import com.itextpdf.io.util.FilterUtil;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.IOException;
+
+@Category(UnitTest.class)
+public class PngTest extends ExtendedITextTest {
+
+    public static final String sourceFolder = "./src/test/resources/com/itextpdf/io/image/";
+
+    @Test
+    public void alphaChannelIsSplitAndDeflatedTest() throws IOException {
+        ImageData img = ImageDataFactory.create(sourceFolder + "png_rgba.png");
+        Assert.assertEquals(5, img.getWidth(), 0);
+        Assert.assertEquals(3, img.getHeight(), 0);
+        Assert.assertEquals(8, img.getBpc());
+        Assert.assertEquals(3, img.getColorSpace());
+        Assert.assertTrue(img.isDeflated());
+
+        byte[] color = FilterUtil.flateDecode(img.getData());
+        Assert.assertEquals(5 * 3 * 3, color.length);
+        for (int y = 0; y < 3; y++) {
+            for (int x = 0; x < 5; x++) {
+                int pos = (y * 5 + x) * 3;
+                Assert.assertEquals(y * 100, color[pos] & 0xff);
+                Assert.assertEquals(x * 50, color[pos + 1] & 0xff);
+                Assert.assertEquals(x + y, color[pos + 2] & 0xff);
+            }
+        }
+
+        ImageData mask = img.getImageMask();
+        Assert.assertNotNull(mask);
+        Assert.assertTrue(mask.isSoftMask());
+        Assert.assertTrue(mask.isDeflated());
+        byte[] alpha = FilterUtil.flateDecode(mask.getData());
+        Assert.assertEquals(5 * 3, alpha.length);
+        for (int k = 0; k < alpha.length; k++) {
+            Assert.assertEquals(k % 5 * 60, alpha[k] & 0xff);
+        }
+    }
+}
@@ -45,19 +45,31 @@ package com.itextpdf.io.image;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.itextpdf.io.codec.TIFFConstants;
 import com.itextpdf.io.codec.TIFFDirectory;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.UnitTest;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.junit.rules.ExpectedException;
 
 @Category(UnitTest.class)
 public class TiffTest extends ExtendedITextTest {
 
+    @Rule
+    public ExpectedException junitExpectedException = ExpectedException.none();
+
     public static final String sourceFolder = "./src/test/resources/com/itextpdf/io/image/";
 
     @Test
@@ -115,4 +127,104 @@ public class TiffTest extends ExtendedITextTest {
         String[] stringArray = new String[] {"iText? 7.1.7-SNAPSHOT ?2000-2019 iText Group NV (AGPL-version)\u0000"};
         Assert.assertArrayEquals(stringArray, dir.getField(305).getAsStrings());
     }
+
+    @Test
+    public void createTiffPagesTest() throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(sourceFolder, "multipage_g4.tif"));
+        List<ImageData> pages = ImageDataFactory.createTiffPages(bytes, false, false);
+        Assert.assertEquals(3, pages.size());
+        for (int i = 0; i < pages.size(); i++) {
+            ImageData page = ImageDataFactory.createTiff(bytes, false, i + 1, false);
+            Assert.assertEquals(160, pages.get(i).getWidth(), 0);
+            Assert.assertEquals(80, pages.get(i).getHeight(), 0);
+            Assert.assertArrayEquals(page.getData(), pages.get(i).getData());
+        }
+    }
+
+    @Test
+    public void processTiffPagesConcurrentlyTest() throws Exception {
+        byte[] bytes = Files.readAllBytes(Paths.get(sourceFolder, "multipage_g4.tif"));
+        List<ImageData> sequential = ImageDataFactory.createTiffPages(bytes, false, false);
+        List<ImageData> concurrent = ImageDataFactory.readTiffPages(bytes, false, false);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (final ImageData page : concurrent) {
+                results.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        ImageDataFactory.processTiffPage(page);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(sequential.size(), concurrent.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            Assert.assertArrayEquals(sequential.get(i).getData(), concurrent.get(i).getData());
+        }
+    }
+
+    @Test
+    public void singleStripG4IsNotReencodedTest() throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(sourceFolder, "multipage_g4.tif"));
+        RandomAccessFileOrArray raf = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(bytes));
+        TIFFDirectory dir = new TIFFDirectory(raf, 1);
+        int offset = (int) dir.getField(TIFFConstants.TIFFTAG_STRIPOFFSETS).getAsLong(0);
+        int length = (int) dir.getField(TIFFConstants.TIFFTAG_STRIPBYTECOUNTS).getAsLong(0);
+
+        ImageData page = ImageDataFactory.createTiff(bytes, false, 2, false);
+        Assert.assertEquals(RawImageData.CCITTG4, ((RawImageData) page).getTypeCcitt());
+        Assert.assertArrayEquals(Arrays.copyOfRange(bytes, offset, offset + length), page.getData());
+    }
+
+    @Test
+    public void brokenSingleStripG4IsRecoveredTest() throws IOException {
+        byte[] bytes = breakStrip(Files.readAllBytes(Paths.get(sourceFolder, "multipage_g4.tif")), 1);
+
+        RandomAccessFileOrArray raf = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(bytes));
+        TIFFDirectory dir = new TIFFDirectory(raf, 1);
+        int offset = (int) dir.getField(TIFFConstants.TIFFTAG_STRIPOFFSETS).getAsLong(0);
+        int length = (int) dir.getField(TIFFConstants.TIFFTAG_STRIPBYTECOUNTS).getAsLong(0);
+
+        // the recovered strip is encoded again instead of being embedded broken
+        ImageData page = ImageDataFactory.createTiff(bytes, true, 2, false);
+        Assert.assertEquals(RawImageData.CCITTG4, ((RawImageData) page).getTypeCcitt());
+        Assert.assertFalse(Arrays.equals(Arrays.copyOfRange(bytes, offset, offset + length), page.getData()));
+    }
+
+    @Test
+    public void brokenSingleStripG4IsNotPassedThroughTest() throws IOException {
+        byte[] bytes = breakStrip(Files.readAllBytes(Paths.get(sourceFolder, "multipage_g4.tif")), 1);
+
+        junitExpectedException.expect(com.itextpdf.io.IOException.class);
+        ImageDataFactory.createTiff(bytes, false, 2, false);
+    }
+
+    @Test
+    public void directoryOffsetsTest() throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(sourceFolder, "multipage_g4.tif"));
+        RandomAccessFileOrArray raf = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(bytes));
+        long[] offsets = TIFFDirectory.getDirectoryOffsets(raf);
+        Assert.assertEquals(3, offsets.length);
+        Assert.assertEquals(3, TIFFDirectory.getNumDirectories(raf));
+        for (int i = 0; i < offsets.length; i++) {
+            Assert.assertEquals(new TIFFDirectory(raf, i).getIFDOffset(), offsets[i]);
+        }
+    }
+
+    private static byte[] breakStrip(byte[] tiff, int directory) throws IOException {
+        RandomAccessFileOrArray raf = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(tiff));
+        TIFFDirectory dir = new TIFFDirectory(raf, directory);
+        int offset = (int) dir.getField(TIFFConstants.TIFFTAG_STRIPOFFSETS).getAsLong(0);
+        int length = (int) dir.getField(TIFFConstants.TIFFTAG_STRIPBYTECOUNTS).getAsLong(0);
+        byte[] broken = Arrays.copyOf(tiff, tiff.length);
+        // the bits 00000010 are not a valid code of the two-dimensional coding
+        Arrays.fill(broken, offset + length / 2, offset + length, (byte) 2);
+        return broken;
+    }
 }
@@ -0,0 +1,135 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.util;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+@Category(UnitTest.class)
+public class IntObjectMapTest extends ExtendedITextTest {
+
+    @Test
+    public void putGetRemoveTest() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        Assert.assertNull(map.put(65, "A"));
+        Assert.assertNull(map.put(0x4E00, "CJK"));
+        Assert.assertNull(map.put(-1, "negative"));
+        Assert.assertNull(map.put(IntObjectMap.MAX_PAGED_KEY + 1, "large"));
+        Assert.assertEquals("A", map.put(65, "a"));
+
+        Assert.assertEquals(4, map.size());
+        Assert.assertEquals("a", map.get(65));
+        Assert.assertEquals("CJK", map.get(0x4E00));
+        Assert.assertEquals("negative", map.get(-1));
+        Assert.assertEquals("large", map.get(IntObjectMap.MAX_PAGED_KEY + 1));
+        Assert.assertNull(map.get(66));
+        Assert.assertNull(map.get(0x10000));
+        Assert.assertFalse(map.containsKey(66));
+
+        Assert.assertEquals("CJK", map.remove(0x4E00));
+        Assert.assertNull(map.remove(0x4E00));
+        Assert.assertFalse(map.containsKey(0x4E00));
+        Assert.assertEquals(3, map.size());
+    }
+
+    @Test
+    public void boxedKeysTest() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(Integer.valueOf(10), "ten");
+
+        Assert.assertEquals("ten", map.get(Integer.valueOf(10)));
+        Assert.assertTrue(map.containsKey(Integer.valueOf(10)));
+        Assert.assertNull(map.get("10"));
+        Assert.assertFalse(map.containsKey("10"));
+    }
+
+    @Test
+    public void nullValuesTest() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(1, "one");
+        Assert.assertEquals("one", map.put(1, null));
+        map.put(-1, null);
+
+        Assert.assertEquals(2, map.size());
+        Assert.assertTrue(map.containsKey(1));
+        Assert.assertTrue(map.containsKey(-1));
+        Assert.assertNull(map.get(1));
+        Assert.assertTrue(map.containsValue(null));
+        Map<Integer, String> expected = new HashMap<>();
+        expected.put(1, null);
+        expected.put(-1, null);
+        Assert.assertEquals(expected, map);
+
+        Assert.assertNull(map.remove(1));
+        Assert.assertNull(map.remove(-1));
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertFalse(map.containsKey(1));
+        Assert.assertFalse(map.containsKey(-1));
+    }
+
+    @Test
+    public void iterationTest() {
+        Map<Integer, String> expected = new HashMap<>();
+        expected.put(3, "3");
+        expected.put(300, "300");
+        expected.put(0x1F600, "emoji");
+        expected.put(-5, "negative");
+        IntObjectMap<String> map = new IntObjectMap<>(expected);
+
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+        Iterator<Integer> keys = map.keySet().iterator();
+        Assert.assertEquals(3, (int) keys.next());
+        Assert.assertEquals(300, (int) keys.next());
+        Assert.assertEquals(0x1F600, (int) keys.next());
+        Assert.assertEquals(-5, (int) keys.next());
+        Assert.assertFalse(keys.hasNext());
+    }
+}
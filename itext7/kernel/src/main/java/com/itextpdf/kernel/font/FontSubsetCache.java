@@ -0,0 +1,165 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.font;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.util.LruCache;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Opt-in cache of font subsets, shared by all documents.
+ * <p>
+ * When many documents embed the same font program with the same set of used glyphs, e.g. documents
+ * produced from a single template, {@link PdfType0Font} takes the subset bytes from this cache
+ * instead of subsetting the font again. The cache is keyed by the identity of the font program,
+ * which is shared across documents through {@link com.itextpdf.io.font.FontCache}, and by the used glyphs.
+ * The font program is only weakly referenced, so the cache does not keep alive the font programs
+ * which are not used anymore; their subsets can not be found and are evicted as the least recently used ones.
+ * <p>
+ * The cache is disabled by default. Enable it with {@link #setCapacity(int)}; when the capacity is exceeded,
+ * the least recently used subsets are evicted.
+ */
+public final class FontSubsetCache {
+
+    private static final LruCache<SubsetKey, byte[]> subsets = new LruCache<>();
+
+    private FontSubsetCache() {
+    }
+
+    /**
+     * Sets the maximum number of cached subsets. Zero, the default value, disables the cache.
+     * If more subsets are cached, the least recently used ones are removed.
+     *
+     * @param capacity the maximum number of cached subsets
+     */
+    public static void setCapacity(int capacity) {
+        subsets.setCapacity(capacity);
+    }
+
+    /**
+     * Gets the maximum number of cached subsets.
+     *
+     * @return the maximum number of cached subsets, zero if the cache is disabled
+     */
+    public static int getCapacity() {
+        return subsets.getCapacity();
+    }
+
+    /**
+     * Gets the number of cached subsets.
+     *
+     * @return the number of cached subsets
+     */
+    public static int size() {
+        return subsets.size();
+    }
+
+    /**
+     * Removes all the cached subsets.
+     */
+    public static void clear() {
+        subsets.clear();
+    }
+
+    static boolean isEnabled() {
+        return subsets.isEnabled();
+    }
+
+    static byte[] getSubset(FontProgram fontProgram, Set<Integer> glyphs, boolean subset) {
+        if (!isEnabled()) {
+            return null;
+        }
+        return subsets.get(new SubsetKey(fontProgram, glyphs, subset));
+    }
+
+    static void putSubset(FontProgram fontProgram, Set<Integer> glyphs, boolean subset, byte[] subsetBytes) {
+        if (!isEnabled()) {
+            return;
+        }
+        subsets.put(new SubsetKey(fontProgram, glyphs, subset), subsetBytes);
+    }
+
+    private static final class SubsetKey {
+        private final WeakReference<FontProgram> fontProgram;
+        private final int[] glyphs;
+        private final boolean subset;
+        private final int hash;
+
+        SubsetKey(FontProgram fontProgram, Set<Integer> glyphs, boolean subset) {
+            this.fontProgram = new WeakReference<>(fontProgram);
+            this.glyphs = new int[glyphs.size()];
+            int i = 0;
+            for (int glyph : glyphs) {
+                this.glyphs[i++] = glyph;
+            }
+            // the glyphs of PdfType0Font are kept sorted, but the cache should not rely on that
+            Arrays.sort(this.glyphs);
+            this.subset = subset;
+            this.hash = 31 * (31 * System.identityHashCode(fontProgram) + Arrays.hashCode(this.glyphs)) + (subset ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SubsetKey)) {
+                return false;
+            }
+            SubsetKey that = (SubsetKey) o;
+            FontProgram program = fontProgram.get();
+            // a collected font program is equal to no other one, so its subsets are never found again
+            return program != null && program == that.fontProgram.get() && subset == that.subset
+                    && hash == that.hash && Arrays.equals(glyphs, that.glyphs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -242,20 +242,21 @@ public abstract class PdfSimpleFont<T extends FontProgram> extends PdfFont {
 
         if (fontEncoding.isFontSpecific()) {
             for (int i = from; i <= to; i++) {
-                bytes[ptr++] = (byte) text.get(i).getCode();
+                byte b = (byte) text.get(i).getCode();
+                shortTag[b & 0xff] = 1;
+                bytes[ptr++] = b;
             }
         } else {
             for (int i = from; i <= to; i++) {
-                if (fontEncoding.canEncode(text.get(i).getUnicode())) {
-                    bytes[ptr++] = (byte) fontEncoding.convertToByte(text.get(i).getUnicode());
+                int unicode = text.get(i).getUnicode();
+                if (fontEncoding.canEncode(unicode)) {
+                    byte b = (byte) fontEncoding.convertToByte(unicode);
+                    shortTag[b & 0xff] = 1;
+                    bytes[ptr++] = b;
                 }
             }
         }
-        bytes = ArrayUtil.shortenArray(bytes, ptr);
-        for (byte b : bytes) {
-            shortTag[b & 0xff] = 1;
-        }
-        StreamUtil.writeEscapedString(stream, bytes);
+        StreamUtil.writeEscapedString(stream, bytes, 0, ptr);
     }
 
     @Override
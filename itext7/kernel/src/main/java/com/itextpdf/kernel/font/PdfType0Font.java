@@ -105,6 +105,10 @@ public class PdfType0Font extends PdfFont {
     protected int cidFontType;
     protected char[] specificUnicodeDifferences;
 
+    // bitset of the glyph ids already added to longTag, so that marking a glyph as used
+    // takes no boxing and no tree lookup when the glyph has been used before
+    private long[] usedGlyphIds = new long[0];
+
     PdfType0Font(TrueTypeFont ttf, String cmap) {
         super();
         if (!PdfEncodings.IDENTITY_H.equals(cmap) && !PdfEncodings.IDENTITY_V.equals(cmap)) {
@@ -307,19 +311,7 @@ public class PdfType0Font extends PdfFont {
     @Override
     public byte[] convertToBytes(GlyphLine glyphLine) {
         if (glyphLine != null) {
-            // prepare and count total length in bytes
-            int totalByteCount = 0;
-            for (int i = glyphLine.start; i < glyphLine.end; i++) {
-                totalByteCount += cmapEncoding.getCmapBytesLength(glyphLine.get(i).getCode());
-            }
-            // perform actual conversion
-            byte[] bytes = new byte[totalByteCount];
-            int offset = 0;
-            for (int i = glyphLine.start; i < glyphLine.end; i++) {
-                longTag.add(glyphLine.get(i).getCode());
-                offset = cmapEncoding.fillCmapBytes(glyphLine.get(i).getCode(), bytes, offset);
-            }
-            return bytes;
+            return convertToBytes(glyphLine, glyphLine.start, glyphLine.end);
         } else {
             return null;
         }
@@ -327,7 +319,7 @@ public class PdfType0Font extends PdfFont {
 
     @Override
     public byte[] convertToBytes(Glyph glyph) {
-        longTag.add(glyph.getCode());
+        markGlyphAsUsed(glyph.getCode());
         return cmapEncoding.getCmapBytes(glyph.getCode());
     }
 
@@ -335,7 +327,7 @@ public class PdfType0Font extends PdfFont {
     public void writeText(GlyphLine text, int from, int to, PdfOutputStream stream) {
         int len = to - from + 1;
         if (len > 0) {
-            byte[] bytes = convertToBytes(new GlyphLine(text, from, to + 1));
+            byte[] bytes = convertToBytes(text, from, to + 1);
             StreamUtil.writeHexedString(stream, bytes);
         }
     }
@@ -671,10 +663,53 @@ public class PdfType0Font extends PdfFont {
 
     private void convertToBytes(Glyph glyph, ByteBuffer result) {
         int code = glyph.getCode();
-        longTag.add(code);
+        markGlyphAsUsed(code);
         cmapEncoding.fillCmapBytes(code, result);
     }
 
+    /**
+     * Encodes the glyphs [from; to) of the line, marking them as used.
+     * The line itself is not copied and its start and end are not taken into account.
+     */
+    private byte[] convertToBytes(GlyphLine glyphLine, int from, int to) {
+        // prepare and count total length in bytes, all codes of a direct cmap are two bytes long
+        int totalByteCount = 0;
+        if (cmapEncoding.isDirect()) {
+            totalByteCount = 2 * (to - from);
+        } else {
+            for (int i = from; i < to; i++) {
+                totalByteCount += cmapEncoding.getCmapBytesLength(glyphLine.get(i).getCode());
+            }
+        }
+        // perform actual conversion
+        byte[] bytes = new byte[totalByteCount];
+        int offset = 0;
+        for (int i = from; i < to; i++) {
+            int code = glyphLine.get(i).getCode();
+            markGlyphAsUsed(code);
+            offset = cmapEncoding.fillCmapBytes(code, bytes, offset);
+        }
+        return bytes;
+    }
+
+    private void markGlyphAsUsed(int code) {
+        if (code < 0) {
+            longTag.add(code);
+            return;
+        }
+        int word = code >> 6;
+        if (word >= usedGlyphIds.length) {
+            long[] newUsedGlyphIds = new long[Math.max(word + 1, 2 * usedGlyphIds.length)];
+            System.arraycopy(usedGlyphIds, 0, newUsedGlyphIds, 0, usedGlyphIds.length);
+            usedGlyphIds = newUsedGlyphIds;
+        }
+        long bit = 1L << (code & 63);
+        if ((usedGlyphIds[word] & bit) == 0) {
+            usedGlyphIds[word] |= bit;
+            longTag.add(code);
+        }
+    }
+
     private static String getOrdering(PdfDictionary cidFont) {
         PdfDictionary cidinfo = cidFont.getAsDictionary(PdfName.CIDSystemInfo);
         if (cidinfo == null)
@@ -709,7 +744,11 @@ public class PdfType0Font extends PdfFont {
             if (ttf.isCff()) {
                 byte[] cffBytes;
                 if (subset) {
-                    cffBytes = new CFFFontSubset(ttf.getFontStreamBytes(), longTag).Process();
+                    cffBytes = FontSubsetCache.getSubset(ttf, longTag, true);
+                    if (cffBytes == null) {
+                        cffBytes = new CFFFontSubset(ttf.getFontStreamBytes(), longTag).Process();
+                        FontSubsetCache.putSubset(ttf, longTag, true, cffBytes);
+                    }
                 } else {
                     cffBytes = ttf.getFontStreamBytes();
                 }
@@ -724,7 +763,11 @@ public class PdfType0Font extends PdfFont {
                 //getDirectoryOffset() > 0 means ttc, which shall be subsetted anyway.
                 if (subset || ttf.getDirectoryOffset() > 0) {
                     try {
-                        ttfBytes = ttf.getSubset(longTag, subset);
+                        ttfBytes = FontSubsetCache.getSubset(ttf, longTag, subset);
+                        if (ttfBytes == null) {
+                            ttfBytes = ttf.getSubset(longTag, subset);
+                            FontSubsetCache.putSubset(ttf, longTag, subset, ttfBytes);
+                        }
                     } catch (com.itextpdf.io.IOException e) {
                         Logger logger = LoggerFactory.getLogger(PdfType0Font.class);
                         logger.warn(LogMessageConstant.FONT_SUBSET_ISSUE);
@@ -0,0 +1,229 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.colors.IccProfile;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.RawImageData;
+import com.itextpdf.kernel.PdfException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The digest of the source bytes and the decode options of an {@link ImageData}, which identifies the image XObject
+ * created from it without creating one.
+ */
+final class ImageDataDigest {
+
+    private static final int NONE = 0;
+    private static final int DATA = 1;
+    private static final int URL = 2;
+
+    private final byte[] digest;
+    private final int hash;
+
+    private ImageDataDigest(byte[] digest) {
+        this.digest = digest;
+        this.hash = Arrays.hashCode(digest);
+    }
+
+    /**
+     * Calculates the digest of the image.
+     *
+     * @param image       the image data
+     * @param dataDigests the digests of the byte arrays already hashed, keyed by the arrays themselves, which is
+     *                    filled with the newly hashed ones
+     * @return the digest of the image, or {@code null} if the image has decode parameters or attributes of a type
+     * which cannot be hashed
+     */
+    static ImageDataDigest create(ImageData image, Map<byte[], byte[]> dataDigests) {
+        MessageDigest md5 = createMessageDigest();
+        return update(md5, image, dataDigests) ? new ImageDataDigest(md5.digest()) : null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ImageDataDigest
+                && hash == ((ImageDataDigest) obj).hash
+                && Arrays.equals(digest, ((ImageDataDigest) obj).digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static boolean update(MessageDigest md5, ImageData image, Map<byte[], byte[]> dataDigests) {
+        if (image.getData() != null) {
+            updateInt(md5, DATA);
+            md5.update(getDataDigest(image.getData(), dataDigests));
+        } else if (image.getUrl() != null) {
+            // the bytes of a lazily loaded image are only read when it is written
+            updateInt(md5, URL);
+            updateString(md5, image.getUrl().toExternalForm());
+        } else {
+            updateInt(md5, NONE);
+        }
+        updateString(md5, image.getOriginalType().name());
+        if (image instanceof RawImageData) {
+            updateInt(md5, ((RawImageData) image).getTypeCcitt());
+        }
+        updateFloat(md5, image.getWidth());
+        updateFloat(md5, image.getHeight());
+        updateInt(md5, image.getBpc());
+        updateInt(md5, image.getColorSpace());
+        updateInt(md5, image.getColorTransform());
+        updateBoolean(md5, image.isDeflated());
+        updateBoolean(md5, image.isInverted());
+        updateBoolean(md5, image.isMask());
+        updateBoolean(md5, image.isInterpolation());
+        updateString(md5, image.getFilter());
+        IccProfile profile = image.getProfile();
+        if (!updateValue(md5, image.getDecode(), dataDigests)
+                || !updateValue(md5, image.getDecodeParms(), dataDigests)
+                || !updateValue(md5, image.getImageAttributes(), dataDigests)
+                || !updateValue(md5, image.getTransparency(), dataDigests)
+                || !updateValue(md5, profile != null ? profile.getData() : null, dataDigests)) {
+            return false;
+        }
+        ImageData imageMask = image.getImageMask();
+        if (imageMask == null) {
+            updateInt(md5, NONE);
+            return true;
+        }
+        updateInt(md5, DATA);
+        return update(md5, imageMask, dataDigests);
+    }
+
+    private static boolean updateValue(MessageDigest md5, Object value, Map<byte[], byte[]> dataDigests) {
+        if (value == null) {
+            updateString(md5, null);
+            return true;
+        }
+        // the values of the decode parameters and the image attributes are the ones PdfImageXObject supports
+        updateString(md5, value.getClass().getName());
+        if (value instanceof byte[]) {
+            md5.update(getDataDigest((byte[]) value, dataDigests));
+        } else if (value instanceof float[]) {
+            float[] floats = (float[]) value;
+            updateInt(md5, floats.length);
+            for (float f : floats) {
+                updateFloat(md5, f);
+            }
+        } else if (value instanceof int[]) {
+            int[] ints = (int[]) value;
+            updateInt(md5, ints.length);
+            for (int i : ints) {
+                updateInt(md5, i);
+            }
+        } else if (value instanceof Object[]) {
+            Object[] objects = (Object[]) value;
+            updateInt(md5, objects.length);
+            for (Object obj : objects) {
+                if (!updateValue(md5, obj, dataDigests)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>((Map<String, Object>) value);
+            updateInt(md5, sorted.size());
+            for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+                updateString(md5, entry.getKey());
+                if (!updateValue(md5, entry.getValue(), dataDigests)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+            updateString(md5, value.toString());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static byte[] getDataDigest(byte[] data, Map<byte[], byte[]> dataDigests) {
+        byte[] dataDigest = dataDigests.get(data);
+        if (dataDigest == null) {
+            dataDigest = createMessageDigest().digest(data);
+            dataDigests.put(data, dataDigest);
+        }
+        return dataDigest;
+    }
+
+    private static void updateString(MessageDigest md5, String str) {
+        if (str == null) {
+            updateInt(md5, -1);
+        } else {
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            updateInt(md5, bytes.length);
+            md5.update(bytes);
+        }
+    }
+
+    private static void updateBoolean(MessageDigest md5, boolean value) {
+        md5.update((byte) (value ? 1 : 0));
+    }
+
+    private static void updateFloat(MessageDigest md5, float value) {
+        updateInt(md5, Float.floatToIntBits(value));
+    }
+
+    private static void updateInt(MessageDigest md5, int value) {
+        md5.update((byte) (value >>> 24));
+        md5.update((byte) (value >>> 16));
+        md5.update((byte) (value >>> 8));
+        md5.update((byte) value);
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (Exception e) {
+            throw new PdfException(e);
+        }
+    }
+}
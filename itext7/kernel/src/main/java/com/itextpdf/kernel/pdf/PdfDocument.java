@@ -44,6 +44,7 @@
 package com.itextpdf.kernel.pdf;
 
 import com.itextpdf.io.LogMessageConstant;
+import com.itextpdf.io.image.ImageData;
 import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
@@ -75,6 +76,8 @@ import com.itextpdf.kernel.pdf.filespec.PdfFileSpec;
 import com.itextpdf.kernel.pdf.navigation.PdfDestination;
 import com.itextpdf.kernel.pdf.tagging.PdfStructTreeRoot;
 import com.itextpdf.kernel.pdf.tagutils.TagStructureContext;
+import com.itextpdf.kernel.pdf.xobject.DecodedImageCache;
+import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
 import com.itextpdf.kernel.xmp.PdfConst;
 import com.itextpdf.kernel.xmp.XMPConst;
 import com.itextpdf.kernel.xmp.XMPException;
@@ -100,6 +103,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -198,6 +202,13 @@ public class PdfDocument implements IEventDispatcher, Closeable, Serializable {
     protected boolean flushUnusedObjects = false;
 
     private Map<PdfIndirectReference, PdfFont> documentFonts = new HashMap<>();
+
+    /**
+     * Image XObjects added to the document through {@link #addImage(PdfImageXObject)}, by their content.
+     */
+    private Map<ImageDataDigest, PdfImageXObject> documentImages = new HashMap<>();
+    private transient Map<byte[], byte[]> imageDataDigests;
+    private transient DecodedImageCache decodedImageCache;
     private PdfFont defaultFont = null;
 
     protected transient TagStructureContext tagStructureContext;
@@ -1736,6 +1747,69 @@ public class PdfDocument implements IEventDispatcher, Closeable, Serializable {
         return null;
     }
 
+    /**
+     * Gets the image XObject created from the image data in this document, so that images with the same content
+     * are encoded and written only once.
+     * <p>
+     * The image XObjects are registered by a digest of the source bytes and the decode options of the image data,
+     * which is calculated before any XObject is created: if an image XObject was already created in this document
+     * from an equal image data, that one is returned, otherwise a new indirect image XObject is created and
+     * registered. {@link com.itextpdf.kernel.pdf.canvas.PdfCanvas#addImage(ImageData, float, float, boolean)}
+     * and the other methods adding {@link ImageData} to a canvas other than as an inline image use this method.
+     * Lazily loaded images are compared by their url. The digests of the image bytes are kept for the byte arrays
+     * they were calculated for, so the bytes of an image data should not be changed once it has been added.
+     * The returned XObject is shared, so it should not be changed: create a {@link PdfImageXObject} directly
+     * to draw a customized one. Documents without writer always get a new XObject.
+     *
+     * @param image the image data
+     * @return the image XObject created from the image data, or from an equal image data before
+     */
+    public PdfImageXObject addImage(ImageData image) {
+        if (writer == null) {
+            return new PdfImageXObject(image);
+        }
+        if (imageDataDigests == null) {
+            imageDataDigests = new WeakHashMap<>();
+        }
+        ImageDataDigest digest = ImageDataDigest.create(image, imageDataDigests);
+        PdfImageXObject addedImage = digest != null ? documentImages.get(digest) : null;
+        if (addedImage != null) {
+            return addedImage;
+        }
+        PdfImageXObject imageXObject = new PdfImageXObject(image);
+        imageXObject.makeIndirect(this);
+        if (digest != null) {
+            documentImages.put(digest, imageXObject);
+            // creating the XObject updates the attributes of raw and JPEG 2000 images, so the image data is
+            // also registered as it is now
+            ImageDataDigest updatedDigest = ImageDataDigest.create(image, imageDataDigests);
+            if (updatedDigest != null && !digest.equals(updatedDigest)) {
+                documentImages.put(updatedDigest, imageXObject);
+            }
+        }
+        return imageXObject;
+    }
+
+    /**
+     * Sets the cache of image bytes used by {@link PdfImageXObject#getImageBytes(boolean)} for the image streams
+     * read from this document, so that images drawn on several pages, or requested by several listeners during
+     * parsing, are decoded only once. There is no cache by default. The cache may be shared with other documents.
+     *
+     * @param decodedImageCache the cache to use, or {@code null} to disable caching
+     */
+    public void setDecodedImageCache(DecodedImageCache decodedImageCache) {
+        this.decodedImageCache = decodedImageCache;
+    }
+
+    /**
+     * Gets the cache of image bytes of this document.
+     *
+     * @return the cache set with {@link #setDecodedImageCache(DecodedImageCache)}, or {@code null} if there is none
+     */
+    public DecodedImageCache getDecodedImageCache() {
+        return decodedImageCache;
+    }
+
     /**
      * Gets list of indirect references.
      *
@@ -295,6 +295,10 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
                     updateCompressionFilter(pdfStream);
                     fout = def = new DeflaterOutputStream(fout, pdfStream.getCompressionLevel(), 0x8000);
                 }
+                if (pdfStream.getAsNumber(PdfName.Length) == null) {
+                    // the stream was created without a document, its length is known only after the content is written
+                    pdfStream.put(PdfName.Length, new PdfNumber(-1).makeIndirect(document));
+                }
                 this.write((PdfDictionary) pdfStream);
                 writeBytes(PdfOutputStream.stream);
                 long beginStreamContent = getCurrentPos();
@@ -48,11 +48,15 @@ import com.itextpdf.io.source.ByteBuffer;
 import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.io.source.RASInputStream;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.io.source.WindowRandomAccessSource;
 import com.itextpdf.io.util.MessageFormatUtil;
+import com.itextpdf.io.util.StreamUtil;
 import com.itextpdf.kernel.PdfException;
+import com.itextpdf.kernel.pdf.filters.ASCII85InputStream;
+import com.itextpdf.kernel.pdf.filters.ASCIIHexInputStream;
 import com.itextpdf.kernel.pdf.filters.FilterHandlers;
 import com.itextpdf.kernel.pdf.filters.IFilterHandler;
 import java.io.ByteArrayInputStream;
@@ -63,6 +67,8 @@ import java.io.InputStream;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,6 +85,7 @@ public class PdfReader implements Closeable, Serializable {
     private static final String endstream4 = "\rendstream";
     private static final byte[] endstream = ByteUtils.getIsoBytes("endstream");
     private static final byte[] endobj = ByteUtils.getIsoBytes("endobj");
+    private static final int INFLATER_BUFFER_SIZE = 8192;
 
     protected static boolean correctStreamLength = true;
 
@@ -358,7 +365,10 @@ public class PdfReader implements Closeable, Serializable {
     }
 
     /**
-     * Reads, decrypt and optionally decode stream bytes into {@link ByteArrayInputStream}.
+     * Reads, decrypt and optionally decode stream bytes into {@link InputStream}.
+     * The bytes are read from the document as the returned stream is read, and decoded as described in
+     * {@link #decodeInputStream(InputStream, PdfDictionary)}, so that a large stream does not have to be held
+     * in memory as a whole.
      * User is responsible for closing returned stream.
      *
      * @param decode true if to get decoded stream, false if to leave it originally encoded.
@@ -366,8 +376,16 @@ public class PdfReader implements Closeable, Serializable {
      * @throws IOException on error.
      */
     public InputStream readStream(PdfStream stream, boolean decode) throws IOException {
-        byte[] bytes = readStreamBytes(stream, decode);
-        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+        PdfName type = stream.getAsName(PdfName.Type);
+        if (!PdfName.XRefStm.equals(type) && !PdfName.ObjStm.equals(type))
+            checkPdfStreamLength(stream);
+        long offset = stream.getOffset();
+        if (offset <= 0)
+            return null;
+        int length = stream.getLength();
+        InputStream in = length <= 0 ? new ByteArrayInputStream(new byte[0])
+                : new RASInputStream(new WindowRandomAccessSource(tokens.getSafeFile().createSourceView(), offset, length));
+        return decode ? decodeInputStream(in, stream) : in;
     }
 
     /**
@@ -395,70 +413,21 @@ public class PdfReader implements Closeable, Serializable {
         if (b == null) {
             return null;
         }
-        PdfObject filter = streamDictionary.get(PdfName.Filter);
-        PdfArray filters = new PdfArray();
-        if (filter != null) {
-            if (filter.getType() == PdfObject.NAME) {
-                filters.add(filter);
-            } else if (filter.getType() == PdfObject.ARRAY) {
-                filters = ((PdfArray) filter);
-            }
-        }
+        PdfArray filters = getFilters(streamDictionary);
 
-        MemoryLimitsAwareHandler memoryLimitsAwareHandler = null;
-        if (null != streamDictionary.getIndirectReference()) {
-            memoryLimitsAwareHandler = streamDictionary.getIndirectReference().getDocument().memoryLimitsAwareHandler;
-        }
+        MemoryLimitsAwareHandler memoryLimitsAwareHandler = getMemoryLimitsAwareHandler(streamDictionary, filters);
         if (null != memoryLimitsAwareHandler) {
-            HashSet<PdfName> filterSet = new HashSet<>();
-            int index;
-            for (index = 0; index < filters.size(); index++) {
-                PdfName filterName = filters.getAsName(index);
-                if (!filterSet.add(filterName)) {
-                    memoryLimitsAwareHandler.beginDecompressedPdfStreamProcessing();
-                    break;
-                }
-            }
-            if (index == filters.size()) {
-                // The stream isn't suspicious. We shouldn't process it.
-
-                memoryLimitsAwareHandler = null;
-            }
+            memoryLimitsAwareHandler.beginDecompressedPdfStreamProcessing();
         }
 
-        PdfArray dp = new PdfArray();
-        PdfObject dpo = streamDictionary.get(PdfName.DecodeParms);
-        if (dpo == null || (dpo.getType() != PdfObject.DICTIONARY && dpo.getType() != PdfObject.ARRAY)) {
-            if (dpo != null) dpo.release();
-            dpo = streamDictionary.get(PdfName.DP);
-        }
-        if (dpo != null) {
-            if (dpo.getType() == PdfObject.DICTIONARY) {
-                dp.add(dpo);
-            } else if (dpo.getType() == PdfObject.ARRAY) {
-                dp = ((PdfArray) dpo);
-            }
-            dpo.release();
-        }
+        PdfArray dp = getDecodeParams(streamDictionary);
         for (int j = 0; j < filters.size(); ++j) {
             PdfName filterName = (PdfName) filters.get(j);
             IFilterHandler filterHandler = filterHandlers.get(filterName);
             if (filterHandler == null)
                 throw new PdfException(PdfException.Filter1IsNotSupported).setMessageParams(filterName);
 
-            PdfDictionary decodeParams;
-            if (j < dp.size()) {
-                PdfObject dpEntry = dp.get(j, true);
-                if (dpEntry == null || dpEntry.getType() == PdfObject.NULL) {
-                    decodeParams = null;
-                } else if (dpEntry.getType() == PdfObject.DICTIONARY) {
-                    decodeParams = (PdfDictionary) dpEntry;
-                } else {
-                    throw new PdfException(PdfException.DecodeParameterType1IsNotSupported).setMessageParams(dpEntry.getClass().toString());
-                }
-            } else {
-                decodeParams = null;
-            }
+            PdfDictionary decodeParams = getDecodeParams(dp, j);
             b = filterHandler.decode(b, filterName, decodeParams, streamDictionary);
             if (null != memoryLimitsAwareHandler) {
                 memoryLimitsAwareHandler.considerBytesOccupiedByDecompressedPdfStream(b.length);
@@ -470,6 +439,73 @@ public class PdfReader implements Closeable, Serializable {
         return b;
     }
 
+    /**
+     * Decodes the data read from an input stream applying the filters specified in the provided dictionary.
+     * The ASCIIHexDecode, ASCII85Decode and FlateDecode (without predictor) filters are applied as the data is read,
+     * so that neither the encoded nor the decoded data is held in memory as a whole; corrupted FlateDecode data
+     * is not recovered though. If any other filter is specified, all the data is read and decoded at once
+     * with the default filter handlers, see {@link #decodeBytes(byte[], PdfDictionary)}.
+     * The memory limits of the document of the stream are applied in both cases, see {@link MemoryLimitsAwareHandler}.
+     * User is responsible for closing returned stream, which closes the passed one.
+     *
+     * @param in               the stream of the data to decode
+     * @param streamDictionary the dictionary that contains filter information
+     * @return the stream of the decoded data
+     * @throws IOException if the data can not be read
+     * @throws PdfException if there are any problems decoding the data
+     */
+    public static InputStream decodeInputStream(InputStream in, PdfDictionary streamDictionary) throws IOException {
+        PdfArray filters = getFilters(streamDictionary);
+        PdfArray dp = getDecodeParams(streamDictionary);
+        for (int j = 0; j < filters.size(); ++j) {
+            PdfName filterName = filters.getAsName(j);
+            boolean decodedAsRead = PdfName.ASCIIHexDecode.equals(filterName) || PdfName.AHx.equals(filterName)
+                    || PdfName.ASCII85Decode.equals(filterName) || PdfName.A85.equals(filterName)
+                    || PdfName.Crypt.equals(filterName);
+            if (!decodedAsRead && (PdfName.FlateDecode.equals(filterName) || PdfName.Fl.equals(filterName))) {
+                decodedAsRead = !hasPredictor(getDecodeParams(dp, j));
+            }
+            if (!decodedAsRead) {
+                byte[] b;
+                try {
+                    b = StreamUtil.inputStreamToArray(in);
+                } finally {
+                    in.close();
+                }
+                return new ByteArrayInputStream(decodeBytes(b, streamDictionary));
+            }
+        }
+        MemoryLimitsAwareHandler memoryLimitsAwareHandler = getMemoryLimitsAwareHandler(streamDictionary, filters);
+        if (null != memoryLimitsAwareHandler) {
+            memoryLimitsAwareHandler.beginDecompressedPdfStreamProcessing();
+        }
+        for (int j = 0; j < filters.size(); ++j) {
+            PdfName filterName = filters.getAsName(j);
+            if (PdfName.ASCIIHexDecode.equals(filterName) || PdfName.AHx.equals(filterName)) {
+                in = new ASCIIHexInputStream(in);
+            } else if (PdfName.ASCII85Decode.equals(filterName) || PdfName.A85.equals(filterName)) {
+                in = new ASCII85InputStream(in);
+            } else if (PdfName.FlateDecode.equals(filterName) || PdfName.Fl.equals(filterName)) {
+                in = new InflaterInputStream(in, new Inflater(), INFLATER_BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            // the inflater is not the default one, so it is not ended by InflaterInputStream itself
+                            inf.end();
+                        }
+                    }
+                };
+            }
+            if (null != memoryLimitsAwareHandler) {
+                // as in decodeBytes, the output of every filter is limited
+                in = new MemoryLimitsAwareInputStream(in, memoryLimitsAwareHandler, j == filters.size() - 1);
+            }
+        }
+        return in;
+    }
+
     /**
      * Gets a new file instance of the original PDF
      * document.
@@ -1154,6 +1190,78 @@ public class PdfReader implements Closeable, Serializable {
         return memorySavingMode;
     }
 
+    private static PdfArray getFilters(PdfDictionary streamDictionary) {
+        PdfObject filter = streamDictionary.get(PdfName.Filter);
+        PdfArray filters = new PdfArray();
+        if (filter != null) {
+            if (filter.getType() == PdfObject.NAME) {
+                filters.add(filter);
+            } else if (filter.getType() == PdfObject.ARRAY) {
+                filters = ((PdfArray) filter);
+            }
+        }
+        return filters;
+    }
+
+    private static PdfArray getDecodeParams(PdfDictionary streamDictionary) {
+        PdfArray dp = new PdfArray();
+        PdfObject dpo = streamDictionary.get(PdfName.DecodeParms);
+        if (dpo == null || (dpo.getType() != PdfObject.DICTIONARY && dpo.getType() != PdfObject.ARRAY)) {
+            if (dpo != null) dpo.release();
+            dpo = streamDictionary.get(PdfName.DP);
+        }
+        if (dpo != null) {
+            if (dpo.getType() == PdfObject.DICTIONARY) {
+                dp.add(dpo);
+            } else if (dpo.getType() == PdfObject.ARRAY) {
+                dp = ((PdfArray) dpo);
+            }
+            dpo.release();
+        }
+        return dp;
+    }
+
+    private static PdfDictionary getDecodeParams(PdfArray dp, int filterIndex) {
+        if (filterIndex >= dp.size()) {
+            return null;
+        }
+        PdfObject dpEntry = dp.get(filterIndex, true);
+        if (dpEntry == null || dpEntry.getType() == PdfObject.NULL) {
+            return null;
+        } else if (dpEntry.getType() == PdfObject.DICTIONARY) {
+            return (PdfDictionary) dpEntry;
+        } else {
+            throw new PdfException(PdfException.DecodeParameterType1IsNotSupported).setMessageParams(dpEntry.getClass().toString());
+        }
+    }
+
+    // Same conditions as in FlateDecodeFilter#decodePredictor
+    /**
+     * Gets the memory limits aware handler of the document of the stream, if the stream is suspicious,
+     * i.e. if some filter is applied to it more than once.
+     */
+    private static MemoryLimitsAwareHandler getMemoryLimitsAwareHandler(PdfDictionary streamDictionary, PdfArray filters) {
+        if (null == streamDictionary.getIndirectReference()) {
+            return null;
+        }
+        MemoryLimitsAwareHandler memoryLimitsAwareHandler = streamDictionary.getIndirectReference().getDocument().memoryLimitsAwareHandler;
+        if (null != memoryLimitsAwareHandler) {
+            HashSet<PdfName> filterSet = new HashSet<>();
+            for (int index = 0; index < filters.size(); index++) {
+                if (!filterSet.add(filters.getAsName(index))) {
+                    return memoryLimitsAwareHandler;
+                }
+            }
+        }
+        // The stream isn't suspicious. We shouldn't process it.
+        return null;
+    }
+
+    private static boolean hasPredictor(PdfDictionary decodeParams) {
+        PdfNumber predictor = decodeParams == null ? null : decodeParams.getAsNumber(PdfName.Predictor);
+        return predictor != null && (predictor.intValue() >= 10 || predictor.intValue() == 2);
+    }
+
     /**
      * Utility method that checks the provided byte source to see if it has junk bytes at the beginning.  If junk bytes
      * are found, construct a tokeniser that ignores the junk.  Otherwise, construct a tokeniser for the byte source as it is
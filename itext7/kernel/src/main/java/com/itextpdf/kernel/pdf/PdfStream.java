@@ -142,6 +142,23 @@ public class PdfStream extends PdfDictionary {
         this(doc, inputStream, CompressionConstants.UNDEFINED_COMPRESSION);
     }
 
+    /**
+     * Creates an efficient stream which is not bound to a document yet. The {@code InputStream} is read
+     * only when the stream is written, it is totally consumed but is not closed. The indirect
+     * {@code Length} of the stream is created at that time as well.
+     *
+     * @param inputStream the data to write to this stream
+     */
+    public PdfStream(InputStream inputStream) {
+        super();
+        if (inputStream == null) {
+            throw new IllegalArgumentException("The input stream in PdfStream constructor can not be null.");
+        }
+        this.inputStream = inputStream;
+        this.compressionLevel = CompressionConstants.UNDEFINED_COMPRESSION;
+        setState(MUST_BE_INDIRECT);
+    }
+
     /**
      * Constructs a {@code PdfStream}-object.
      *
@@ -1886,7 +1886,8 @@ public class PdfCanvas implements Serializable {
      * @param e        an element of the transformation matrix
      * @param f        an element of the transformation matrix
      * @param asInline true if to add image as in-line.
-     * @return created Image XObject or null in case of in-line image (asInline = true).
+     * @return created Image XObject, shared with the equal images of the document,
+     * or null in case of in-line image (asInline = true).
      * @see #concatMatrix(double, double, double, double, double, double)
      */
     public PdfXObject addImage(ImageData image, float a, float b, float c, float d, float e, float f, boolean asInline) {
@@ -1896,11 +1897,11 @@ public class PdfCanvas implements Serializable {
             addXObject(xObject, a, b, c, d, e, f);
             return xObject;
         } else {
-            PdfImageXObject imageXObject = new PdfImageXObject(image);
             if (asInline && image.canImageBeInline()) {
-                addInlineImage(imageXObject, a, b, c, d, e, f);
+                addInlineImage(new PdfImageXObject(image), a, b, c, d, e, f);
                 return null;
             } else {
+                PdfImageXObject imageXObject = getImageXObject(image);
                 addImage(imageXObject, a, b, c, d, e, f);
                 return imageXObject;
             }
@@ -1917,7 +1918,8 @@ public class PdfCanvas implements Serializable {
      * @param image image from which Image XObject will be created
      * @param rect rectangle in which the created image will be fit
      * @param asInline true if to add image as in-line.
-     * @return created XObject or null in case of in-line image (asInline = true).
+     * @return created XObject, shared with the equal images of the document,
+     * or null in case of in-line image (asInline = true).
      * @see #concatMatrix(double, double, double, double, double, double)
      */
     public PdfXObject addImage(ImageData image, Rectangle rect, boolean asInline) {
@@ -1931,7 +1933,8 @@ public class PdfCanvas implements Serializable {
      * @param x horizontal offset of the created image position
      * @param y vertical offset of the created image position
      * @param asInline true if to add image as in-line.
-     * @return created XObject or null in case of in-line image (asInline = true).
+     * @return created XObject, shared with the equal images of the document,
+     * or null in case of in-line image (asInline = true).
      */
     public PdfXObject addImage(ImageData image, float x, float y, boolean asInline) {
         if (image.getOriginalType() == ImageType.WMF) {
@@ -1940,11 +1943,11 @@ public class PdfCanvas implements Serializable {
             addXObject(xObject, image.getWidth(), 0, 0, image.getHeight(), x, y);
             return xObject;
         } else {
-            PdfImageXObject imageXObject = new PdfImageXObject(image);
             if (asInline && image.canImageBeInline()) {
-                addInlineImage(imageXObject, image.getWidth(), 0, 0, image.getHeight(), x, y);
+                addInlineImage(new PdfImageXObject(image), image.getWidth(), 0, 0, image.getHeight(), x, y);
                 return null;
             } else {
+                PdfImageXObject imageXObject = getImageXObject(image);
                 addImage(imageXObject, image.getWidth(), 0, 0, image.getHeight(), x, y);
                 return imageXObject;
             }
@@ -1961,7 +1964,8 @@ public class PdfCanvas implements Serializable {
      * @param y vertical offset of the created image position
      * @param width width of the created image on the basis of which the image height will be calculated
      * @param asInline true if to add image as in-line.
-     * @return created XObject or null in case of in-line image (asInline = true).
+     * @return created XObject, shared with the equal images of the document,
+     * or null in case of in-line image (asInline = true).
      * @see #concatMatrix(double, double, double, double, double, double)
      */
     public PdfXObject addImage(ImageData image, float x, float y, float width, boolean asInline) {
@@ -1972,11 +1976,11 @@ public class PdfCanvas implements Serializable {
             addImage(xObject, width, 0, 0, width, x, y);
             return xObject;
         } else {
-            PdfImageXObject imageXObject = new PdfImageXObject(image);
             if (asInline && image.canImageBeInline()) {
-                addInlineImage(imageXObject, width, 0, 0, width / image.getWidth() * image.getHeight(), x, y);
+                addInlineImage(new PdfImageXObject(image), width, 0, 0, width / image.getWidth() * image.getHeight(), x, y);
                 return null;
             } else {
+                PdfImageXObject imageXObject = getImageXObject(image);
                 addImage(imageXObject, width, 0, 0, width / image.getWidth() * image.getHeight(), x, y);
                 return imageXObject;
             }
@@ -1995,7 +1999,8 @@ public class PdfCanvas implements Serializable {
      * @param asInline true if to add image as in-line.
      * @param dummy flag to note that the method works with the height parameter as opposed to the method
      *              {@link #addImage(ImageData, float, float, float, boolean)}.
-     * @return created XObject or null in case of in-line image (asInline = true).
+     * @return created XObject, shared with the equal images of the document,
+     * or null in case of in-line image (asInline = true).
      * @see #concatMatrix(double, double, double, double, double, double) 
      */
     public PdfXObject addImage(ImageData image, float x, float y, float height, boolean asInline, boolean dummy) {
@@ -2459,6 +2464,11 @@ public class PdfCanvas implements Serializable {
         return addImage(image, height / image.getHeight() * image.getWidth(), 0, 0, height, x, y);
     }
 
+    private PdfImageXObject getImageXObject(ImageData image) {
+        // the image XObjects are shared among the equal images added to the document
+        return document != null ? document.addImage(image) : new PdfImageXObject(image);
+    }
+
     private static PdfStream getPageStream(PdfPage page) {
         PdfStream stream = page.getLastContentStream();
         return stream == null || stream.getOutputStream() == null || stream.containsKey(PdfName.Filter) ? page.newContentStreamAfter() : stream;
@@ -91,6 +91,7 @@ import com.itextpdf.kernel.pdf.colorspace.PdfCieBasedCs;
 import com.itextpdf.kernel.pdf.colorspace.PdfColorSpace;
 import com.itextpdf.kernel.pdf.colorspace.PdfPattern;
 import com.itextpdf.kernel.pdf.colorspace.PdfSpecialCs;
+import com.itextpdf.kernel.pdf.xobject.DecodedImageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -173,6 +174,11 @@ public class PdfCanvasProcessor {
      */
     private Stack<CanvasTag> markedContentStack = new Stack<>();
 
+    /**
+     * The decoded image cache of the document of the page being processed, which the inline images are bound to.
+     */
+    private DecodedImageCache decodedImageCache;
+
     /**
      * Creates a new PDF Content Stream Processor that will send its output to the
      * designated render listener.
@@ -303,7 +309,12 @@ public class PdfCanvasProcessor {
         initClippingPath(page);
         ParserGraphicsState gs = getGraphicsState();
         eventOccurred(new ClippingPathInfo(gs, gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
-        processContent(page.getContentBytes(), page.getResources());
+        decodedImageCache = page.getDocument().getDecodedImageCache();
+        try {
+            processContent(page.getContentBytes(), page.getResources());
+        } finally {
+            decodedImageCache = null;
+        }
     }
 
     /**
@@ -575,6 +586,9 @@ public class PdfCanvasProcessor {
         PdfDictionary colorSpaceDic = getResources().getResource(PdfName.ColorSpace);
         ImageRenderInfo renderInfo = new ImageRenderInfo(canvasTagHierarchy, getGraphicsState(), getGraphicsState().getCtm(),
                 imageStream, resourceName, colorSpaceDic, isInline);
+        if (isInline && decodedImageCache != null) {
+            decodedImageCache.bindInlineImage(renderInfo.getImage());
+        }
         eventOccurred(renderInfo, EventType.RENDER_IMAGE);
     }
 
@@ -43,18 +43,19 @@
  */
 package com.itextpdf.kernel.pdf.filters;
 
-import com.itextpdf.io.source.PdfTokenizer;
-import com.itextpdf.kernel.PdfException;
 import com.itextpdf.kernel.pdf.MemoryLimitsAwareFilter;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 
 
 /**
  * Handles ASCII85Decode filter
+ *
+ * @see ASCII85InputStream
  */
 public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter {
 
@@ -86,51 +87,6 @@ public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter {
      * @return the decoded byte[]
      */
     private static byte[] ASCII85Decode(byte[] in, ByteArrayOutputStream out) {
-        int state = 0;
-        int[] chn = new int[5];
-        for (int k = 0; k < in.length; ++k) {
-            int ch = in[k] & 0xff;
-            if (ch == '~')
-                break;
-            if (PdfTokenizer.isWhitespace(ch))
-                continue;
-            if (ch == 'z' && state == 0) {
-                out.write(0);
-                out.write(0);
-                out.write(0);
-                out.write(0);
-                continue;
-            }
-            if (ch < '!' || ch > 'u')
-                throw new PdfException(PdfException.IllegalCharacterInAscii85decode);
-            chn[state] = ch - '!';
-            ++state;
-            if (state == 5) {
-                state = 0;
-                int r = 0;
-                for (int j = 0; j < 5; ++j)
-                    r = r * 85 + chn[j];
-                out.write((byte)(r >> 24));
-                out.write((byte)(r >> 16));
-                out.write((byte)(r >> 8));
-                out.write((byte)r);
-            }
-        }
-        if (state == 2) {
-            int r = chn[0] * 85 * 85 * 85 * 85 + chn[1] * 85 * 85 * 85 + 85 * 85 * 85  + 85 * 85 + 85;
-            out.write((byte)(r >> 24));
-        }
-        else if (state == 3) {
-            int r = chn[0] * 85 * 85 * 85 * 85 + chn[1] * 85 * 85 * 85  + chn[2] * 85 * 85 + 85 * 85 + 85;
-            out.write((byte)(r >> 24));
-            out.write((byte)(r >> 16));
-        }
-        else if (state == 4) {
-            int r = chn[0] * 85 * 85 * 85 * 85 + chn[1] * 85 * 85 * 85  + chn[2] * 85 * 85  + chn[3] * 85 + 85;
-            out.write((byte)(r >> 24));
-            out.write((byte)(r >> 16));
-            out.write((byte)(r >> 8));
-        }
-        return out.toByteArray();
+        return new ASCII85InputStream(new ByteArrayInputStream(in)).decodeAll(out);
     }
 }
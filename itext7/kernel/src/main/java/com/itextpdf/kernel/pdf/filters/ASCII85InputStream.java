@@ -0,0 +1,128 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.kernel.PdfException;
+
+import java.io.InputStream;
+
+/**
+ * Decodes the data of another stream according to ASCII85 as it is read.
+ * The data ends at the '~' of the EOD marker or at the end of the underlying stream.
+ * Reading throws a {@link PdfException} if an illegal character is found.
+ */
+public class ASCII85InputStream extends BufferedDecodeInputStream {
+
+    private final int[] chn = new int[5];
+    private int state;
+
+    /**
+     * Creates a stream decoding the ASCII85 encoded data of another stream.
+     *
+     * @param in the stream of the encoded data
+     */
+    public ASCII85InputStream(InputStream in) {
+        // a 'z' is decoded to four zeros
+        super(in, 4);
+    }
+
+    @Override
+    int decode(byte[] encoded, int encodedLength, byte[] decoded) {
+        int n = 0;
+        for (int k = 0; k < encodedLength; ++k) {
+            int ch = encoded[k] & 0xff;
+            if (ch == '~') {
+                return -1 - n;
+            }
+            if (PdfTokenizer.isWhitespace(ch)) {
+                continue;
+            }
+            if (ch == 'z' && state == 0) {
+                decoded[n++] = 0;
+                decoded[n++] = 0;
+                decoded[n++] = 0;
+                decoded[n++] = 0;
+                continue;
+            }
+            if (ch < '!' || ch > 'u') {
+                throw new PdfException(PdfException.IllegalCharacterInAscii85decode);
+            }
+            chn[state] = ch - '!';
+            ++state;
+            if (state == 5) {
+                state = 0;
+                int r = 0;
+                for (int j = 0; j < 5; ++j) {
+                    r = r * 85 + chn[j];
+                }
+                decoded[n++] = (byte) (r >> 24);
+                decoded[n++] = (byte) (r >> 16);
+                decoded[n++] = (byte) (r >> 8);
+                decoded[n++] = (byte) r;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    int finish(byte[] decoded, int offset) {
+        int n = offset;
+        if (state == 2) {
+            int r = chn[0] * 85 * 85 * 85 * 85 + chn[1] * 85 * 85 * 85 + 85 * 85 * 85 + 85 * 85 + 85;
+            decoded[n++] = (byte) (r >> 24);
+        } else if (state == 3) {
+            int r = chn[0] * 85 * 85 * 85 * 85 + chn[1] * 85 * 85 * 85 + chn[2] * 85 * 85 + 85 * 85 + 85;
+            decoded[n++] = (byte) (r >> 24);
+            decoded[n++] = (byte) (r >> 16);
+        } else if (state == 4) {
+            int r = chn[0] * 85 * 85 * 85 * 85 + chn[1] * 85 * 85 * 85 + chn[2] * 85 * 85 + chn[3] * 85 + 85;
+            decoded[n++] = (byte) (r >> 24);
+            decoded[n++] = (byte) (r >> 16);
+            decoded[n++] = (byte) (r >> 8);
+        }
+        state = 0;
+        return n - offset;
+    }
+}
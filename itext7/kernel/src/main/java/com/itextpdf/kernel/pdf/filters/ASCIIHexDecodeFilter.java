@@ -43,18 +43,18 @@
  */
 package com.itextpdf.kernel.pdf.filters;
 
-import com.itextpdf.io.source.ByteBuffer;
-import com.itextpdf.io.source.PdfTokenizer;
-import com.itextpdf.kernel.PdfException;
 import com.itextpdf.kernel.pdf.MemoryLimitsAwareFilter;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 
 /**
  * Handles ASCIIHexDecode filter
+ *
+ * @see ASCIIHexInputStream
  */
 public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter {
 
@@ -86,25 +86,6 @@ public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter {
      * @return decoded byte[]
      */
     private static byte[] ASCIIHexDecode(byte[] in, ByteArrayOutputStream out) {
-        boolean first = true;
-        int n1 = 0;
-        for (int k = 0; k < in.length; ++k) {
-            int ch = in[k] & 0xff;
-            if (ch == '>')
-                break;
-            if (PdfTokenizer.isWhitespace(ch))
-                continue;
-            int n = ByteBuffer.getHex(ch);
-            if (n == -1)
-                throw new PdfException(PdfException.IllegalCharacterInAsciihexdecode);
-            if (first)
-                n1 = n;
-            else
-                out.write((byte)((n1 << 4) + n));
-            first = !first;
-        }
-        if (!first)
-            out.write((byte)(n1 << 4));
-        return out.toByteArray();
+        return new ASCIIHexInputStream(new ByteArrayInputStream(in)).decodeAll(out);
     }
 }
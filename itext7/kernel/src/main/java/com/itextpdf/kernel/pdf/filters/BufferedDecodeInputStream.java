@@ -0,0 +1,186 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.kernel.PdfException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Base class of the streams decoding the data of another stream block by block, as it is read,
+ * so that the whole encoded and decoded data never has to be kept in memory.
+ */
+abstract class BufferedDecodeInputStream extends FilterInputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final byte[] encoded = new byte[BUFFER_SIZE];
+    private final byte[] decoded;
+    private int decodedPosition;
+    private int decodedLength;
+    private boolean finished;
+
+    /**
+     * @param in                   the stream of the encoded data
+     * @param maxDecodedPerEncoded the maximum number of bytes a single encoded byte is decoded to
+     */
+    BufferedDecodeInputStream(InputStream in, int maxDecodedPerEncoded) {
+        super(in);
+        // some more room for the bytes of an incomplete group, which are decoded at the end of the data
+        decoded = new byte[BUFFER_SIZE * maxDecodedPerEncoded + 4];
+    }
+
+    /**
+     * Decodes a block of encoded bytes.
+     *
+     * @param encoded       the encoded bytes
+     * @param encodedLength the number of encoded bytes
+     * @param decoded       the buffer for the decoded bytes
+     * @return the number of decoded bytes, or -1 - n, if the end of the data is found and n bytes are decoded
+     */
+    abstract int decode(byte[] encoded, int encodedLength, byte[] decoded);
+
+    /**
+     * Decodes the bytes of an incomplete group, once the end of the data is reached.
+     *
+     * @param decoded the buffer for the decoded bytes
+     * @param offset  the position of the first byte to write in the buffer
+     * @return the number of decoded bytes
+     */
+    abstract int finish(byte[] decoded, int offset);
+
+    @Override
+    public int read() throws IOException {
+        if (decodedPosition == decodedLength && !fill()) {
+            return -1;
+        }
+        return decoded[decodedPosition++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (decodedPosition == decodedLength && !fill()) {
+            return -1;
+        }
+        int n = Math.min(len, decodedLength - decodedPosition);
+        System.arraycopy(decoded, decodedPosition, b, off, n);
+        decodedPosition += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && (decodedPosition < decodedLength || fill())) {
+            int step = (int) Math.min(n - skipped, decodedLength - decodedPosition);
+            decodedPosition += step;
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return decodedLength - decodedPosition;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Decodes all the remaining data of the stream.
+     *
+     * @param out the stream to write the decoded data to
+     * @return the content of the output stream
+     */
+    byte[] decodeAll(ByteArrayOutputStream out) {
+        try {
+            while (decodedPosition < decodedLength || fill()) {
+                out.write(decoded, decodedPosition, decodedLength - decodedPosition);
+                decodedPosition = decodedLength;
+            }
+        } catch (IOException e) {
+            throw new PdfException(PdfException.IoException, e);
+        }
+        return out.toByteArray();
+    }
+
+    private boolean fill() throws IOException {
+        decodedPosition = 0;
+        decodedLength = 0;
+        while (decodedLength == 0 && !finished) {
+            int encodedLength = in.read(encoded, 0, encoded.length);
+            if (encodedLength < 0) {
+                finished = true;
+            } else {
+                decodedLength = decode(encoded, encodedLength, decoded);
+                if (decodedLength < 0) {
+                    decodedLength = -1 - decodedLength;
+                    finished = true;
+                }
+            }
+            if (finished) {
+                decodedLength += finish(decoded, decodedLength);
+            }
+        }
+        return decodedLength > 0;
+    }
+}
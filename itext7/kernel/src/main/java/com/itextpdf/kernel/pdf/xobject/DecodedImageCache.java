@@ -0,0 +1,454 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.xobject;
+
+import com.itextpdf.kernel.PdfException;
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfStream;
+import com.itextpdf.kernel.pdf.PdfString;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Size-bounded cache of image bytes, used by {@link PdfImageXObject#getImageBytes(boolean)}.
+ * <p>
+ * Content stream processing creates a new {@link PdfImageXObject} each time an image is drawn, so the same image
+ * stream is decoded anew for every page and every listener that asks for its bytes. When the cache is set with
+ * {@link PdfDocument#setDecodedImageCache(DecodedImageCache)}, the bytes are kept by the document and
+ * the indirect reference of the image stream and by whether they were decoded or not. Only streams read from
+ * the document and not changed since are cached; an entry is dropped if the filters, the decode parameters or
+ * the image properties used to decode the bytes have changed, including changes made inside the decode parameters
+ * or color space objects themselves.
+ * <p>
+ * Inline images have no indirect reference, so they are kept by a digest of their dictionary and their encoded
+ * bytes, and equal inline images share an entry. They are only cached once {@link #bindInlineImage(PdfImageXObject)
+ * bound} to the cache, which {@link com.itextpdf.kernel.pdf.canvas.parser.PdfCanvasProcessor#processPageContent}
+ * does for the inline images of the pages of a document with a cache.
+ * <p>
+ * When the total length of the cached bytes exceeds the maximum size, the least recently used entries are evicted.
+ * The entries may also be held by soft references, so that the garbage collector reclaims them under memory
+ * pressure. A cache instance may be shared by several documents, so that they have a common size limit.
+ * The cache holds the documents weakly: the entries of a document are removed once it is garbage collected.
+ */
+public final class DecodedImageCache {
+
+    private static final PdfName[] DECODING_KEYS = {PdfName.Filter, PdfName.DecodeParms, PdfName.DP, PdfName.Width,
+            PdfName.Height, PdfName.BitsPerComponent, PdfName.ColorSpace, PdfName.Decode};
+
+    private final long maxSize;
+    private final boolean softReferences;
+
+    private final Map<ImageKey, ImageEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<byte[]> clearedEntries = new ReferenceQueue<>();
+    private final ReferenceQueue<PdfDocument> collectedDocuments = new ReferenceQueue<>();
+    private long size;
+
+    /**
+     * Creates a cache which holds the image bytes strongly.
+     *
+     * @param maxSize the maximum total length of the cached image bytes
+     */
+    public DecodedImageCache(long maxSize) {
+        this(maxSize, false);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize        the maximum total length of the cached image bytes
+     * @param softReferences if {@code true}, the image bytes are held by soft references and may be
+     *                       reclaimed by the garbage collector before they are evicted
+     */
+    public DecodedImageCache(long maxSize, boolean softReferences) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize");
+        }
+        this.maxSize = maxSize;
+        this.softReferences = softReferences;
+    }
+
+    /**
+     * Gets the maximum total length of the cached image bytes.
+     *
+     * @return the maximum size of the cache, in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Checks whether the image bytes are held by soft references.
+     *
+     * @return {@code true} if the image bytes may be reclaimed by the garbage collector
+     */
+    public boolean isSoftReferences() {
+        return softReferences;
+    }
+
+    /**
+     * Gets the total length of the cached image bytes.
+     * Entries reclaimed by the garbage collector, but not yet removed from the cache, are counted as well.
+     *
+     * @return the size of the cache, in bytes
+     */
+    public synchronized long getSize() {
+        removeClearedEntries();
+        return size;
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the number of cached entries
+     */
+    public synchronized int getEntryCount() {
+        removeClearedEntries();
+        return entries.size();
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+        while (clearedEntries.poll() != null) {
+            // the references of the removed entries are not needed anymore
+        }
+        while (collectedDocuments.poll() != null) {
+            // the entries of the collected documents are already removed
+        }
+    }
+
+    /**
+     * Makes {@link PdfImageXObject#getImageBytes(boolean)} of an inline image use this cache.
+     * The bytes are kept by a digest of the image dictionary and the encoded image bytes.
+     *
+     * @param inlineImage the image of an inline image stream, which has no indirect reference
+     */
+    public void bindInlineImage(PdfImageXObject inlineImage) {
+        if (inlineImage.getPdfObject().getIndirectReference() != null) {
+            throw new IllegalArgumentException("The image is not an inline image.");
+        }
+        inlineImage.inlineImageCache = this;
+    }
+
+    static DecodedImageCache getCache(PdfImageXObject image) {
+        if (image.inlineImageCache != null) {
+            return image.inlineImageCache;
+        }
+        PdfStream stream = image.getPdfObject();
+        PdfIndirectReference reference = stream.getIndirectReference();
+        PdfDocument document = reference != null ? reference.getDocument() : null;
+        if (document == null || document.getReader() == null || stream.getOutputStream() != null) {
+            return null;
+        }
+        return document.getDecodedImageCache();
+    }
+
+    synchronized byte[] get(PdfStream stream, boolean decoded) {
+        removeClearedEntries();
+        ImageKey key = createKey(stream, decoded);
+        ImageEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        byte[] bytes = entry.getBytes();
+        if (bytes == null || !entry.isDecodedWith(stream)) {
+            remove(key);
+            return null;
+        }
+        return bytes.clone();
+    }
+
+    synchronized void put(PdfStream stream, boolean decoded, byte[] bytes) {
+        if (bytes == null || bytes.length > maxSize) {
+            return;
+        }
+        removeClearedEntries();
+        ImageKey key = createKey(stream, decoded);
+        remove(key);
+        entries.put(key, new ImageEntry(key, bytes.clone(), key.isInline() ? null : getDecodingDigest(stream)));
+        size += bytes.length;
+        Iterator<ImageEntry> eldest = entries.values().iterator();
+        while (size > maxSize) {
+            size -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+
+    private ImageKey createKey(PdfStream stream, boolean decoded) {
+        PdfIndirectReference reference = stream.getIndirectReference();
+        if (reference != null) {
+            return new ImageKey(reference, collectedDocuments, decoded);
+        }
+        MessageDigest md5 = createMessageDigest();
+        update(md5, stream, Collections.newSetFromMap(new IdentityHashMap<PdfObject, Boolean>()));
+        md5.update(stream.getBytes(false));
+        return new ImageKey(md5.digest(), decoded);
+    }
+
+    private void remove(ImageKey key) {
+        ImageEntry entry = entries.remove(key);
+        if (entry != null) {
+            size -= entry.length;
+        }
+    }
+
+    private void removeClearedEntries() {
+        Reference<? extends byte[]> cleared;
+        while ((cleared = clearedEntries.poll()) != null) {
+            ImageKey key = ((ImageBytesReference) cleared).key;
+            ImageEntry entry = entries.get(key);
+            // the entry may have been replaced after its bytes were reclaimed
+            if (entry != null && entry.softBytes == cleared) {
+                remove(key);
+            }
+        }
+        if (collectedDocuments.poll() != null) {
+            while (collectedDocuments.poll() != null) {
+                // a single pass removes the entries of all the collected documents
+            }
+            Iterator<Map.Entry<ImageKey, ImageEntry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<ImageKey, ImageEntry> entry = iterator.next();
+                if (entry.getKey().isDocumentCollected()) {
+                    size -= entry.getValue().length;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private static byte[] getDecodingDigest(PdfStream stream) {
+        MessageDigest md5 = createMessageDigest();
+        Set<PdfObject> visited = Collections.newSetFromMap(new IdentityHashMap<PdfObject, Boolean>());
+        for (PdfName key : DECODING_KEYS) {
+            update(md5, stream.get(key, false), visited);
+        }
+        return md5.digest();
+    }
+
+    private static void update(MessageDigest md5, PdfObject object, Set<PdfObject> visited) {
+        if (object != null && object.isIndirectReference()) {
+            object = ((PdfIndirectReference) object).getRefersTo();
+        }
+        if (object == null) {
+            md5.update((byte) 0);
+            return;
+        }
+        md5.update(object.getType());
+        PdfIndirectReference reference = object.getIndirectReference();
+        if (reference != null && !visited.add(object)) {
+            // an object met again, possibly a cycle, is identified by its reference
+            updateString(md5, reference.getObjNumber() + " " + reference.getGenNumber());
+            return;
+        }
+        switch (object.getType()) {
+            case PdfObject.DICTIONARY:
+            case PdfObject.STREAM:
+                // only the dictionary of a stream is taken into account, not its data
+                PdfDictionary dictionary = (PdfDictionary) object;
+                updateInt(md5, dictionary.size());
+                for (PdfName key : dictionary.keySet()) {
+                    updateString(md5, key.getValue());
+                    update(md5, dictionary.get(key, false), visited);
+                }
+                break;
+            case PdfObject.ARRAY:
+                PdfArray array = (PdfArray) object;
+                updateInt(md5, array.size());
+                for (int i = 0; i < array.size(); i++) {
+                    update(md5, array.get(i, false), visited);
+                }
+                break;
+            case PdfObject.STRING:
+                byte[] bytes = ((PdfString) object).getValueBytes();
+                updateInt(md5, bytes.length);
+                md5.update(bytes);
+                break;
+            default:
+                updateString(md5, object.toString());
+                break;
+        }
+    }
+
+    private static void updateString(MessageDigest md5, String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        updateInt(md5, bytes.length);
+        md5.update(bytes);
+    }
+
+    private static void updateInt(MessageDigest md5, int value) {
+        md5.update((byte) (value >>> 24));
+        md5.update((byte) (value >>> 16));
+        md5.update((byte) (value >>> 8));
+        md5.update((byte) value);
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (Exception e) {
+            throw new PdfException(e);
+        }
+    }
+
+    private static final class ImageKey {
+        // the key of an image stream, the document is held weakly so that the cache does not keep it alive
+        private final WeakReference<PdfDocument> document;
+        private final int objNumber;
+        private final int genNumber;
+        // the key of an inline image
+        private final byte[] contentDigest;
+        private final boolean decoded;
+        private final int hash;
+
+        ImageKey(PdfIndirectReference reference, ReferenceQueue<PdfDocument> queue, boolean decoded) {
+            this.document = new WeakReference<>(reference.getDocument(), queue);
+            this.objNumber = reference.getObjNumber();
+            this.genNumber = reference.getGenNumber();
+            this.contentDigest = null;
+            this.decoded = decoded;
+            this.hash = 31 * (31 * (31 * System.identityHashCode(reference.getDocument()) + objNumber) + genNumber)
+                    + (decoded ? 1 : 0);
+        }
+
+        ImageKey(byte[] contentDigest, boolean decoded) {
+            this.document = null;
+            this.objNumber = 0;
+            this.genNumber = 0;
+            this.contentDigest = contentDigest;
+            this.decoded = decoded;
+            this.hash = 31 * Arrays.hashCode(contentDigest) + (decoded ? 1 : 0);
+        }
+
+        boolean isInline() {
+            return document == null;
+        }
+
+        boolean isDocumentCollected() {
+            return document != null && document.get() == null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey that = (ImageKey) o;
+            if (decoded != that.decoded || hash != that.hash) {
+                return false;
+            }
+            if (isInline() || that.isInline()) {
+                return isInline() && that.isInline() && Arrays.equals(contentDigest, that.contentDigest);
+            }
+            PdfDocument pdfDocument = document.get();
+            return pdfDocument != null && pdfDocument == that.document.get()
+                    && objNumber == that.objNumber && genNumber == that.genNumber;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class ImageBytesReference extends SoftReference<byte[]> {
+        private final ImageKey key;
+
+        ImageBytesReference(ImageKey key, byte[] bytes, ReferenceQueue<byte[]> queue) {
+            super(bytes, queue);
+            this.key = key;
+        }
+    }
+
+    private final class ImageEntry {
+        private final byte[] bytes;
+        private final ImageBytesReference softBytes;
+        private final int length;
+        // the digest of the decoding entries, null for inline images, whose key already depends on them
+        private final byte[] decodingDigest;
+
+        ImageEntry(ImageKey key, byte[] bytes, byte[] decodingDigest) {
+            if (softReferences) {
+                this.bytes = null;
+                this.softBytes = new ImageBytesReference(key, bytes, clearedEntries);
+            } else {
+                this.bytes = bytes;
+                this.softBytes = null;
+            }
+            this.length = bytes.length;
+            this.decodingDigest = decodingDigest;
+        }
+
+        byte[] getBytes() {
+            return softBytes != null ? softBytes.get() : bytes;
+        }
+
+        boolean isDecodedWith(PdfStream stream) {
+            return decodingDigest == null || Arrays.equals(decodingDigest, getDecodingDigest(stream));
+        }
+    }
+}
@@ -49,6 +49,8 @@ import com.itextpdf.io.image.ImageData;
 import com.itextpdf.io.image.ImageType;
 import com.itextpdf.io.image.RawImageData;
 import com.itextpdf.io.image.RawImageHelper;
+import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.io.util.UrlUtil;
 import com.itextpdf.kernel.PdfException;
 import com.itextpdf.kernel.pdf.CompressionConstants;
 import com.itextpdf.kernel.pdf.PdfArray;
@@ -71,6 +73,8 @@ import com.itextpdf.kernel.pdf.filters.FilterHandlers;
 import com.itextpdf.kernel.pdf.filters.IFilterHandler;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import javax.imageio.ImageIO;
@@ -87,6 +91,10 @@ public class PdfImageXObject extends PdfXObject {
     private float height;
     private boolean mask;
     private boolean softMask;
+    // the url of a lazily loaded image, whose bytes are only read from it when the stream is written
+    private URL url;
+    // the cache of an inline image, set by DecodedImageCache#bindInlineImage
+    transient DecodedImageCache inlineImageCache;
 
     /**
      * Creates Image XObject by image.
@@ -107,6 +115,9 @@ public class PdfImageXObject extends PdfXObject {
         this(createPdfStream(checkImageType(image), imageMask));
         mask = image.isMask();
         softMask = image.isSoftMask();
+        if (isLoadedLazily(image)) {
+            url = image.getUrl();
+        }
     }
 
     /**
@@ -163,7 +174,16 @@ public class PdfImageXObject extends PdfXObject {
      * @return just created instance of {@link PdfImageXObject}.
      */
     public PdfImageXObject copyTo(PdfDocument document) {
-        PdfImageXObject image = new PdfImageXObject((PdfStream) getPdfObject().copyTo(document));
+        PdfImageXObject image;
+        if (url != null && getPdfObject().getIndirectReference() == null) {
+            // the stream of a lazily loaded image has no bytes to copy, the copy reads them from the url as well
+            PdfStream stream = new PdfStream(new UrlInputStream(url));
+            stream.putAll((PdfDictionary) new PdfDictionary(getPdfObject()).copyTo(document));
+            image = new PdfImageXObject(stream);
+            image.url = url;
+        } else {
+            image = new PdfImageXObject((PdfStream) getPdfObject().copyTo(document));
+        }
         image.mask = mask;
         image.softMask = softMask;
         return image;
@@ -193,13 +213,22 @@ public class PdfImageXObject extends PdfXObject {
      * Gets image bytes.
      * Note, {@link PdfName#DCTDecode}, {@link PdfName#JBIG2Decode} and {@link PdfName#JPXDecode}
      * filters will be ignored.
+     * If the document has a {@link DecodedImageCache}, or an inline image is
+     * {@link DecodedImageCache#bindInlineImage(PdfImageXObject) bound} to one, the bytes are taken from it when possible.
      *
      * @param decoded if {@code true}, decodes stream bytes.
      * @return byte array.
      */
     public byte[] getImageBytes(boolean decoded) {
+        DecodedImageCache cache = DecodedImageCache.getCache(this);
         byte[] bytes;
-        bytes = getPdfObject().getBytes(false);
+        if (cache != null) {
+            bytes = cache.get(getPdfObject(), decoded);
+            if (bytes != null) {
+                return bytes;
+            }
+        }
+        bytes = url != null && !getPdfObject().isFlushed() ? readUrlBytes() : getPdfObject().getBytes(false);
         if (decoded) {
             Map<PdfName, IFilterHandler> filters = new HashMap<>(FilterHandlers.getDefaultFilterHandlers());
             DoNothingFilter stubFilter = new DoNothingFilter();
@@ -216,6 +245,9 @@ public class PdfImageXObject extends PdfXObject {
                 }
             }
         }
+        if (cache != null) {
+            cache.put(getPdfObject(), decoded, bytes);
+        }
         return bytes;
     }
 
@@ -314,12 +346,38 @@ public class PdfImageXObject extends PdfXObject {
         return height;
     }
 
+    private byte[] readUrlBytes() {
+        InputStream is = null;
+        try {
+            is = UrlUtil.openStream(url);
+            return StreamUtil.inputStreamToArray(is);
+        } catch (IOException e) {
+            throw new PdfException(PdfException.CannotGetPdfStreamBytes, e, getPdfObject());
+        } finally {
+            if (is != null) {
+                try {
+                    is.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static boolean isLoadedLazily(ImageData image) {
+        return image.getData() == null && image.getUrl() != null;
+    }
+
     private static PdfStream createPdfStream(ImageData image, PdfImageXObject imageMask) {
         PdfStream stream;
         if (image.getOriginalType() == ImageType.RAW) {
             RawImageHelper.updateImageAttributes((RawImageData) image, null);
         }
-        stream = new PdfStream(image.getData());
+        if (isLoadedLazily(image)) {
+            // the image bytes were not loaded into memory, they are copied from the url when the stream is written
+            stream = new PdfStream(new UrlInputStream(image.getUrl()));
+        } else {
+            stream = new PdfStream(image.getData());
+        }
         String filter = image.getFilter();
         if (filter != null && "JPXDecode".equals(filter) && image.getColorSpace() <= 0) {
             stream.setCompressionLevel(CompressionConstants.NO_COMPRESSION);
@@ -515,4 +573,61 @@ public class PdfImageXObject extends PdfXObject {
         }
         return image;
     }
+
+    /**
+     * Opens the url on the first read and closes it as soon as its end is reached, so that
+     * images waiting to be written do not hold open connections or file handles.
+     */
+    private static class UrlInputStream extends InputStream {
+        private final URL url;
+        private InputStream stream;
+        private boolean closed;
+
+        UrlInputStream(URL url) {
+            this.url = url;
+        }
+
+        @Override
+        public int read() throws IOException {
+            InputStream in = open();
+            if (in == null) {
+                return -1;
+            }
+            int b = in.read();
+            if (b < 0) {
+                close();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            InputStream in = open();
+            if (in == null) {
+                return -1;
+            }
+            int n = in.read(b, off, len);
+            if (n < 0) {
+                close();
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            if (stream != null) {
+                InputStream in = stream;
+                stream = null;
+                in.close();
+            }
+        }
+
+        private InputStream open() throws IOException {
+            if (stream == null && !closed) {
+                stream = UrlUtil.openStream(url);
+            }
+            return stream;
+        }
+    }
 }
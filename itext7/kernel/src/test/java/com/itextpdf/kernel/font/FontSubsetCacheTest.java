@@ -0,0 +1,155 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.font;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.TreeSet;
+
+@Category(UnitTest.class)
+public class FontSubsetCacheTest extends ExtendedITextTest {
+
+    @Rule
+    public ExpectedException junitExpectedException = ExpectedException.none();
+
+    private static final String fontsFolder = "./src/test/resources/com/itextpdf/kernel/pdf/fonts/";
+
+    @After
+    public void after() {
+        FontSubsetCache.setCapacity(0);
+    }
+
+    @Test
+    public void disabledByDefaultTest() throws IOException {
+        FontProgram fontProgram = FontProgramFactory.createFont(fontsFolder + "Aller_Rg.ttf");
+        FontSubsetCache.putSubset(fontProgram, new TreeSet<>(Arrays.asList(1, 2)), true, new byte[1]);
+
+        Assert.assertEquals(0, FontSubsetCache.getCapacity());
+        Assert.assertEquals(0, FontSubsetCache.size());
+        Assert.assertNull(FontSubsetCache.getSubset(fontProgram, new TreeSet<>(Arrays.asList(1, 2)), true));
+    }
+
+    @Test
+    public void subsetIsReusedForSameGlyphsTest() throws IOException {
+        FontSubsetCache.setCapacity(10);
+        FontProgram fontProgram = FontProgramFactory.createFont(fontsFolder + "Aller_Rg.ttf");
+
+        flushFont(fontProgram, "Hello");
+        Assert.assertEquals(1, FontSubsetCache.size());
+        flushFont(fontProgram, "olleH");
+        Assert.assertEquals(1, FontSubsetCache.size());
+        flushFont(fontProgram, "World");
+        Assert.assertEquals(2, FontSubsetCache.size());
+    }
+
+    @Test
+    public void keyTest() throws IOException {
+        FontSubsetCache.setCapacity(10);
+        FontProgram fontProgram = FontProgramFactory.createFont(fontsFolder + "Aller_Rg.ttf");
+        byte[] subsetBytes = new byte[1];
+        FontSubsetCache.putSubset(fontProgram, new TreeSet<>(Arrays.asList(1, 2)), true, subsetBytes);
+
+        Assert.assertSame(subsetBytes, FontSubsetCache.getSubset(fontProgram, new TreeSet<>(Arrays.asList(2, 1)), true));
+        Assert.assertNull(FontSubsetCache.getSubset(fontProgram, new TreeSet<>(Arrays.asList(1, 2)), false));
+        Assert.assertNull(FontSubsetCache.getSubset(fontProgram, new TreeSet<>(Arrays.asList(1, 2, 3)), true));
+    }
+
+    @Test
+    public void leastRecentlyUsedSubsetIsEvictedTest() throws IOException {
+        FontSubsetCache.setCapacity(2);
+        FontProgram fontProgram = FontProgramFactory.createFont(fontsFolder + "Aller_Rg.ttf");
+        FontSubsetCache.putSubset(fontProgram, new TreeSet<>(Arrays.asList(1)), true, new byte[1]);
+        FontSubsetCache.putSubset(fontProgram, new TreeSet<>(Arrays.asList(2)), true, new byte[1]);
+        FontSubsetCache.getSubset(fontProgram, new TreeSet<>(Arrays.asList(1)), true);
+        FontSubsetCache.putSubset(fontProgram, new TreeSet<>(Arrays.asList(3)), true, new byte[1]);
+
+        Assert.assertEquals(2, FontSubsetCache.size());
+        Assert.assertNotNull(FontSubsetCache.getSubset(fontProgram, new TreeSet<>(Arrays.asList(1)), true));
+        Assert.assertNull(FontSubsetCache.getSubset(fontProgram, new TreeSet<>(Arrays.asList(2)), true));
+    }
+
+    @Test
+    public void fontProgramIsNotKeptAliveTest() throws IOException, InterruptedException {
+        FontSubsetCache.setCapacity(10);
+        FontProgram fontProgram = FontProgramFactory.createFont(fontsFolder + "Aller_Rg.ttf", false);
+        FontSubsetCache.putSubset(fontProgram, new TreeSet<>(Arrays.asList(1, 2)), true, new byte[1]);
+        WeakReference<FontProgram> reference = new WeakReference<>(fontProgram);
+        fontProgram = null;
+
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(reference.get());
+    }
+
+    @Test
+    public void negativeCapacityTest() {
+        junitExpectedException.expect(IllegalArgumentException.class);
+        FontSubsetCache.setCapacity(-1);
+    }
+
+    private static void flushFont(FontProgram fontProgram, String text) {
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        PdfFont font = PdfFontFactory.createFont(fontProgram, PdfEncodings.IDENTITY_H);
+        font.convertToBytes(text);
+        font.makeIndirect(pdfDocument);
+        font.flush();
+    }
+}
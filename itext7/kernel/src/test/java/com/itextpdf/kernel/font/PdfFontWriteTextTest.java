@@ -0,0 +1,105 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.font;
+
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.otf.GlyphLine;
+import com.itextpdf.kernel.pdf.PdfOutputStream;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.TreeSet;
+
+@Category(UnitTest.class)
+public class PdfFontWriteTextTest extends ExtendedITextTest {
+
+    private static final String fontsFolder = "./src/test/resources/com/itextpdf/kernel/pdf/fonts/";
+
+    @Test
+    public void type0FontWriteTextTest() throws IOException {
+        PdfType0Font font = (PdfType0Font) PdfFontFactory.createFont(fontsFolder + "Aller_Rg.ttf", PdfEncodings.IDENTITY_H);
+        GlyphLine line = font.createGlyphLine("Hello");
+        int e = line.get(1).getCode();
+        int l = line.get(2).getCode();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        font.writeText(line, 1, 3, new PdfOutputStream(baos));
+
+        String expected = String.format("<%04x%04x%04x>", e, l, l);
+        Assert.assertEquals(expected, new String(baos.toByteArray(), "ISO-8859-1"));
+        Assert.assertEquals(new TreeSet<>(Arrays.asList(e, l)), font.longTag);
+        Assert.assertArrayEquals(new byte[] {(byte) (e >> 8), (byte) e, (byte) (l >> 8), (byte) l, (byte) (l >> 8), (byte) l},
+                font.convertToBytes(new GlyphLine(line, 1, 4)));
+    }
+
+    @Test
+    public void type0FontMarksGlyphsUsedOnceTest() throws IOException {
+        PdfType0Font font = (PdfType0Font) PdfFontFactory.createFont(fontsFolder + "Aller_Rg.ttf", PdfEncodings.IDENTITY_H);
+        GlyphLine line = font.createGlyphLine("abcabc");
+        font.writeText(line, 0, 5, new PdfOutputStream(new ByteArrayOutputStream()));
+        font.convertToBytes("cd");
+
+        Assert.assertEquals(4, font.longTag.size());
+        Assert.assertTrue(font.longTag.contains(font.getGlyph('d').getCode()));
+    }
+
+    @Test
+    public void simpleFontWriteTextEscapesStringTest() throws IOException {
+        PdfSimpleFont<?> font = (PdfSimpleFont<?>) PdfFontFactory.createFont(fontsFolder + "Aller_Rg.ttf", PdfEncodings.WINANSI);
+        GlyphLine line = font.createGlyphLine("a(b)\\c");
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        font.writeText(line, 1, 5, new PdfOutputStream(baos));
+
+        Assert.assertEquals("(\\(b\\)\\\\c)", new String(baos.toByteArray(), "ISO-8859-1"));
+        Assert.assertEquals(1, font.shortTag['(']);
+        Assert.assertEquals(1, font.shortTag['c']);
+        Assert.assertEquals(0, font.shortTag['a']);
+    }
+}
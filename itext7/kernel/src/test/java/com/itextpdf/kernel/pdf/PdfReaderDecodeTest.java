@@ -43,6 +43,7 @@
 package com.itextpdf.kernel.pdf;
 
 import com.itextpdf.io.LogMessageConstant;
+import com.itextpdf.io.util.StreamUtil;
 import com.itextpdf.kernel.PdfException;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.LogMessage;
@@ -53,10 +54,13 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -283,4 +287,147 @@ public class PdfReaderDecodeTest extends ExtendedITextTest {
         }
         Assert.assertEquals(expectedExceptionMessage, thrownExceptionMessage);
     }
+
+    @Test
+    public void decodeInputStreamTest() throws IOException {
+        byte[] b = readStreamFile();
+        StringBuilder hex = new StringBuilder();
+        for (byte value : b) {
+            hex.append(String.format("%02x", value & 0xff)).append(hex.length() % 60 == 0 ? "\n" : "");
+        }
+        byte[] encoded = hex.append('>').toString().getBytes(StandardCharsets.ISO_8859_1);
+
+        PdfArray filters = new PdfArray();
+        filters.add(PdfName.AHx);
+        filters.add(PdfName.Fl);
+        filters.add(PdfName.FlateDecode);
+        filters.add(PdfName.Fl);
+        PdfStream stream = new PdfStream(encoded);
+        stream.put(PdfName.Filter, filters);
+
+        InputStream decoded = PdfReader.decodeInputStream(new ByteArrayInputStream(encoded), stream);
+        Assert.assertFalse(decoded instanceof ByteArrayInputStream);
+        Assert.assertArrayEquals(PdfReader.decodeBytes(encoded, stream), StreamUtil.inputStreamToArray(decoded));
+        Assert.assertEquals(1000000, PdfReader.decodeBytes(encoded, stream).length);
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = LogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = LogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT)
+    })
+    public void readStreamTest() throws IOException {
+        PdfReader reader = new PdfReader(sourceFolder + "timing.pdf");
+        PdfDocument pdfDocument = new PdfDocument(reader);
+        try {
+            PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+
+            InputStream raw = reader.readStream(stream, false);
+            Assert.assertFalse(raw instanceof ByteArrayInputStream);
+            Assert.assertArrayEquals(stream.getBytes(false), StreamUtil.inputStreamToArray(raw));
+            raw.close();
+
+            // the content stream is flate encoded, so it is decoded as it is read
+            InputStream decoded = reader.readStream(stream, true);
+            Assert.assertFalse(decoded instanceof ByteArrayInputStream);
+            Assert.assertArrayEquals(stream.getBytes(), StreamUtil.inputStreamToArray(decoded));
+            decoded.close();
+        } finally {
+            pdfDocument.close();
+        }
+    }
+
+    @Test
+    public void decodeInputStreamNotDecodedAsReadTest() throws IOException {
+        byte[] b = readStreamFile();
+        // a single literal run of RunLengthDecode, followed by EOD
+        byte[] encoded = new byte[b.length + 2];
+        encoded[0] = (byte) (b.length - 1);
+        System.arraycopy(b, 0, encoded, 1, b.length);
+        encoded[b.length + 1] = (byte) 128;
+
+        PdfArray filters = new PdfArray();
+        filters.add(PdfName.RunLengthDecode);
+        filters.add(PdfName.Fl);
+        PdfStream stream = new PdfStream(encoded);
+        stream.put(PdfName.Filter, filters);
+
+        InputStream decoded = PdfReader.decodeInputStream(new ByteArrayInputStream(encoded), stream);
+        Assert.assertArrayEquals(PdfReader.decodeBytes(encoded, stream), StreamUtil.inputStreamToArray(decoded));
+        Assert.assertEquals(40, PdfReader.decodeBytes(encoded, stream).length);
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = LogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = LogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT)
+    })
+    public void decodeInputStreamCustomMemoryHandlerSingleTest() throws IOException {
+        MemoryLimitsAwareHandler handler = new MemoryLimitsAwareHandler();
+        handler.setMaxSizeOfSingleDecompressedPdfStream(1000);
+
+        PdfDocument pdfDocument = new PdfDocument(
+                new PdfReader(sourceFolder + "timing.pdf",
+                        new ReaderProperties().setMemoryLimitsAwareHandler(handler)));
+
+        PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+        byte[] b = stream.getBytes(false);
+
+        PdfArray array = new PdfArray();
+        array.add(PdfName.Fl);
+        array.add(PdfName.Fl);
+        stream.put(PdfName.Filter, array);
+        Assert.assertEquals(992, StreamUtil.inputStreamToArray(
+                PdfReader.decodeInputStream(new ByteArrayInputStream(b), stream)).length);
+
+        array.add(PdfName.Fl);
+        String expectedExceptionMessage = PdfException.DuringDecompressionSingleStreamOccupiedMoreMemoryThanAllowed;
+        String thrownExceptionMessage = null;
+        try {
+            StreamUtil.inputStreamToArray(PdfReader.decodeInputStream(new ByteArrayInputStream(b), stream));
+        } catch (MemoryLimitsAwareException e) {
+            thrownExceptionMessage = e.getMessage();
+        }
+        Assert.assertEquals(expectedExceptionMessage, thrownExceptionMessage);
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = LogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = LogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT)
+    })
+    public void decodeInputStreamCustomMemoryHandlerSumTest() throws IOException {
+        MemoryLimitsAwareHandler handler = new MemoryLimitsAwareHandler();
+        handler.setMaxSizeOfDecompressedPdfStreamsSum(100000);
+
+        PdfDocument pdfDocument = new PdfDocument(
+                new PdfReader(sourceFolder + "timing.pdf",
+                        new ReaderProperties().setMemoryLimitsAwareHandler(handler)));
+
+        PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+        byte[] b = stream.getBytes(false);
+
+        PdfArray array = new PdfArray();
+        array.add(PdfName.Fl);
+        array.add(PdfName.Fl);
+        array.add(PdfName.Fl);
+        stream.put(PdfName.Filter, array);
+
+        String expectedExceptionMessage = PdfException.DuringDecompressionMultipleStreamsInSumOccupiedMoreMemoryThanAllowed;
+        String thrownExceptionMessage = null;
+        try {
+            StreamUtil.inputStreamToArray(PdfReader.decodeInputStream(new ByteArrayInputStream(b), stream));
+        } catch (MemoryLimitsAwareException e) {
+            thrownExceptionMessage = e.getMessage();
+        }
+        Assert.assertEquals(expectedExceptionMessage, thrownExceptionMessage);
+    }
+
+    private static byte[] readStreamFile() throws IOException {
+        FileInputStream is = new FileInputStream(sourceFolder + "stream");
+        byte[] b = new byte[51];
+        is.read(b);
+        is.close();
+        return b;
+    }
 }
@@ -0,0 +1,92 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.kernel.PdfException;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+@Category(UnitTest.class)
+public class ASCIIHexInputStreamTest extends ExtendedITextTest {
+
+    @Rule
+    public ExpectedException junitExpectedException = ExpectedException.none();
+
+    @Test
+    public void decodeTest() throws IOException {
+        byte[] encoded = "48 65 6c6C\n6f7>20".getBytes(StandardCharsets.ISO_8859_1);
+        InputStream stream = new ASCIIHexInputStream(new ByteArrayInputStream(encoded));
+        Assert.assertEquals("Hellop", new String(StreamUtil.inputStreamToArray(stream), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void skipTest() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            text.append(i % 2 == 0 ? "0A" : "1b\r\n");
+        }
+        InputStream stream = new ASCIIHexInputStream(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.ISO_8859_1)));
+        Assert.assertEquals(10001, stream.skip(10001));
+        Assert.assertEquals(0x1b, stream.read());
+        Assert.assertEquals(9998, stream.skip(10001));
+        Assert.assertEquals(-1, stream.read());
+    }
+
+    @Test
+    public void illegalCharacterTest() throws IOException {
+        junitExpectedException.expect(PdfException.class);
+        InputStream stream = new ASCIIHexInputStream(new ByteArrayInputStream("4865G".getBytes(StandardCharsets.ISO_8859_1)));
+        stream.read();
+    }
+}
@@ -0,0 +1,289 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.xobject;
+
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfNumber;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfStream;
+import com.itextpdf.kernel.pdf.canvas.parser.EventType;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfCanvasProcessor;
+import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
+import com.itextpdf.kernel.pdf.canvas.parser.data.ImageRenderInfo;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.IntegrationTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class DecodedImageCacheTest extends ExtendedITextTest {
+
+    private static final String sourceFolder = "./src/test/resources/com/itextpdf/kernel/pdf/xobject/GetImageBytesTest/";
+    private static final String inlineImageSourceFolder =
+            "./src/test/resources/com/itextpdf/kernel/pdf/canvas/parser/InlineImageExtractionTest/";
+
+    @Test
+    public void imageBytesAreCachedTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + "img_rgb.pdf"));
+        try {
+            DecodedImageCache cache = new DecodedImageCache(1 << 20);
+            pdfDocument.setDecodedImageCache(cache);
+            byte[] cmpBytes = Files.readAllBytes(Paths.get(sourceFolder, "img_rgb.png"));
+
+            byte[] bytes = getImage(pdfDocument).getImageBytes(true);
+            Assert.assertArrayEquals(cmpBytes, bytes);
+            Assert.assertEquals(1, cache.getEntryCount());
+            Assert.assertEquals(cmpBytes.length, cache.getSize());
+
+            // the cached bytes are not affected by changes of the returned array
+            bytes[0] = (byte) ~bytes[0];
+            Assert.assertArrayEquals(cmpBytes, getImage(pdfDocument).getImageBytes(true));
+            Assert.assertEquals(1, cache.getEntryCount());
+
+            byte[] rawBytes = getImage(pdfDocument).getImageBytes(false);
+            Assert.assertArrayEquals(getImage(pdfDocument).getPdfObject().getBytes(false), rawBytes);
+            Assert.assertEquals(2, cache.getEntryCount());
+
+            cache.clear();
+            Assert.assertEquals(0, cache.getEntryCount());
+            Assert.assertEquals(0, cache.getSize());
+        } finally {
+            pdfDocument.close();
+        }
+    }
+
+    @Test
+    public void leastRecentlyUsedBytesAreEvictedTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + "img_rgb.pdf"));
+        try {
+            PdfImageXObject image = getImage(pdfDocument);
+            int rawLength = image.getImageBytes(false).length;
+            DecodedImageCache cache = new DecodedImageCache(rawLength);
+            pdfDocument.setDecodedImageCache(cache);
+
+            image.getImageBytes(false);
+            Assert.assertEquals(1, cache.getEntryCount());
+            Assert.assertNotNull(cache.get(image.getPdfObject(), false));
+
+            // the decoded image does not fit in the cache, so it is neither cached nor evicts the raw bytes
+            image.getImageBytes(true);
+            Assert.assertEquals(1, cache.getEntryCount());
+            Assert.assertEquals(rawLength, cache.getSize());
+            Assert.assertNull(cache.get(image.getPdfObject(), true));
+        } finally {
+            pdfDocument.close();
+        }
+    }
+
+    @Test
+    public void changedDecodingEntriesInvalidateCacheTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + "img_rgb.pdf"));
+        try {
+            DecodedImageCache cache = new DecodedImageCache(1 << 20);
+            pdfDocument.setDecodedImageCache(cache);
+            PdfImageXObject image = getImage(pdfDocument);
+            image.getImageBytes(true);
+            Assert.assertNotNull(cache.get(image.getPdfObject(), true));
+
+            // an equal value does not invalidate the entry
+            PdfStream stream = image.getPdfObject();
+            stream.put(PdfName.Width, new PdfNumber(stream.getAsNumber(PdfName.Width).intValue()));
+            Assert.assertNotNull(cache.get(stream, true));
+
+            PdfArray decode = new PdfArray(new float[] {0, 1, 0, 1, 0, 1});
+            stream.put(PdfName.Decode, decode);
+            Assert.assertNull(cache.get(stream, true));
+            Assert.assertEquals(0, cache.getEntryCount());
+
+            // changes made inside the decoding entries are detected as well
+            image.getImageBytes(true);
+            Assert.assertNotNull(cache.get(stream, true));
+            decode.set(0, new PdfNumber(1));
+            decode.set(1, new PdfNumber(0));
+            Assert.assertNull(cache.get(stream, true));
+            Assert.assertEquals(0, cache.getEntryCount());
+        } finally {
+            pdfDocument.close();
+        }
+    }
+
+    @Test
+    public void softReferencesTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + "img_rgb.pdf"));
+        try {
+            DecodedImageCache cache = new DecodedImageCache(1 << 20, true);
+            pdfDocument.setDecodedImageCache(cache);
+            byte[] cmpBytes = Files.readAllBytes(Paths.get(sourceFolder, "img_rgb.png"));
+
+            Assert.assertArrayEquals(cmpBytes, getImage(pdfDocument).getImageBytes(true));
+            Assert.assertArrayEquals(cmpBytes, getImage(pdfDocument).getImageBytes(true));
+            Assert.assertTrue(cache.isSoftReferences());
+            Assert.assertTrue(cache.getEntryCount() <= 1);
+        } finally {
+            pdfDocument.close();
+        }
+    }
+
+    @Test
+    public void cacheSharedByDocumentsTest() throws IOException {
+        // the images of both documents are the objects with the same number
+        PdfDocument rgbDocument = new PdfDocument(new PdfReader(sourceFolder + "img_rgb.pdf"));
+        PdfDocument indexedDocument = new PdfDocument(new PdfReader(sourceFolder + "img_indexed.pdf"));
+        try {
+            DecodedImageCache cache = new DecodedImageCache(1 << 20);
+            rgbDocument.setDecodedImageCache(cache);
+            indexedDocument.setDecodedImageCache(cache);
+            byte[] rgbBytes = Files.readAllBytes(Paths.get(sourceFolder, "img_rgb.png"));
+            byte[] indexedBytes = Files.readAllBytes(Paths.get(sourceFolder, "img_indexed.png"));
+
+            Assert.assertArrayEquals(rgbBytes, getImage(rgbDocument).getImageBytes(true));
+            Assert.assertNull(cache.get(getImage(indexedDocument).getPdfObject(), true));
+            Assert.assertArrayEquals(indexedBytes, getImage(indexedDocument).getImageBytes(true));
+            Assert.assertEquals(2, cache.getEntryCount());
+
+            Assert.assertArrayEquals(rgbBytes, cache.get(getImage(rgbDocument).getPdfObject(), true));
+            Assert.assertArrayEquals(indexedBytes, cache.get(getImage(indexedDocument).getPdfObject(), true));
+        } finally {
+            rgbDocument.close();
+            indexedDocument.close();
+        }
+    }
+
+    @Test
+    public void entriesOfCollectedDocumentAreRemovedTest() throws IOException, InterruptedException {
+        DecodedImageCache cache = new DecodedImageCache(1 << 20);
+        cacheImageOfClosedDocument(cache);
+        Assert.assertEquals(1, cache.getEntryCount());
+
+        // the cache does not keep the closed document alive, so its entries are removed once it is collected
+        for (int i = 0; i < 50 && cache.getEntryCount() != 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertEquals(0, cache.getEntryCount());
+        Assert.assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void inlineImagesAreCachedTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(inlineImageSourceFolder + "inlineImageExtraction.pdf"));
+        try {
+            DecodedImageCache cache = new DecodedImageCache(1 << 20);
+            pdfDocument.setDecodedImageCache(cache);
+            ImageBytesListener listener = new ImageBytesListener();
+
+            new PdfCanvasProcessor(listener).processPageContent(pdfDocument.getFirstPage());
+            Assert.assertEquals(1, listener.imageBytes.size());
+            Assert.assertEquals(1, cache.getEntryCount());
+
+            // the inline image is parsed anew, but its bytes are taken from the cache
+            new PdfCanvasProcessor(listener).processPageContent(pdfDocument.getFirstPage());
+            Assert.assertEquals(2, listener.imageBytes.size());
+            Assert.assertArrayEquals(listener.imageBytes.get(0), listener.imageBytes.get(1));
+            Assert.assertEquals(1, cache.getEntryCount());
+            Assert.assertNotNull(cache.get(listener.inlineImage.getPdfObject(), true));
+
+            // the key depends on the content of the inline image
+            listener.inlineImage.getPdfObject().put(PdfName.Decode, new PdfArray(new float[] {255, 0}));
+            Assert.assertNull(cache.get(listener.inlineImage.getPdfObject(), true));
+        } finally {
+            pdfDocument.close();
+        }
+    }
+
+    @Test
+    public void inlineImagesAreNotBoundWithoutCacheTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(inlineImageSourceFolder + "inlineImageExtraction.pdf"));
+        try {
+            ImageBytesListener listener = new ImageBytesListener();
+            new PdfCanvasProcessor(listener).processPageContent(pdfDocument.getFirstPage());
+            Assert.assertNull(DecodedImageCache.getCache(listener.inlineImage));
+        } finally {
+            pdfDocument.close();
+        }
+    }
+
+    private static void cacheImageOfClosedDocument(DecodedImageCache cache) throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + "img_rgb.pdf"));
+        pdfDocument.setDecodedImageCache(cache);
+        getImage(pdfDocument).getImageBytes(false);
+        pdfDocument.close();
+    }
+
+    private static PdfImageXObject getImage(PdfDocument pdfDocument) {
+        PdfStream stream = pdfDocument.getPage(1).getResources().getResource(PdfName.XObject).getAsStream(new PdfName("Im1"));
+        return new PdfImageXObject(stream);
+    }
+
+    private static class ImageBytesListener implements IEventListener {
+        private final List<byte[]> imageBytes = new ArrayList<>();
+        private PdfImageXObject inlineImage;
+
+        @Override
+        public void eventOccurred(IEventData data, EventType type) {
+            ImageRenderInfo renderInfo = (ImageRenderInfo) data;
+            if (renderInfo.isInline()) {
+                inlineImage = renderInfo.getImage();
+                imageBytes.add(inlineImage.getImageBytes(true));
+            }
+        }
+
+        @Override
+        public Set<EventType> getSupportedEvents() {
+            return Collections.singleton(EventType.RENDER_IMAGE);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.xobject;
+
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.io.image.RawImageData;
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+@Category(UnitTest.class)
+public class ImageXObjectReuseTest extends ExtendedITextTest {
+
+    private static final String sourceFolder = "./src/test/resources/com/itextpdf/kernel/pdf/xobject/PdfImageXObjectTest/";
+
+    @Test
+    public void equalImagesShareXObjectTest() throws IOException {
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        PdfPage page = pdfDoc.addNewPage();
+        PdfCanvas canvas = new PdfCanvas(page);
+
+        PdfXObject first = canvas.addImage(ImageDataFactory.create(readImageBytes()), 10, 10, false);
+        PdfXObject second = canvas.addImage(ImageDataFactory.create(readImageBytes()), 100, 100, false);
+
+        Assert.assertSame(first, second);
+        Assert.assertNotNull(first.getPdfObject().getIndirectReference());
+        Assert.assertEquals(1, page.getResources().getResourceNames(PdfName.XObject).size());
+    }
+
+    @Test
+    public void sameImageDrawnTwiceSharesXObjectTest() throws IOException {
+        ImageData image = ImageDataFactory.create(sourceFolder + "image.png");
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        PdfPage page = pdfDoc.addNewPage();
+        PdfCanvas canvas = new PdfCanvas(page);
+
+        PdfXObject first = canvas.addImage(image, 10, 10, false);
+        PdfXObject second = canvas.addImage(image, 100, 100, 50, false);
+
+        Assert.assertSame(first, second);
+        Assert.assertSame(first, pdfDoc.addImage(image));
+    }
+
+    @Test
+    public void flushedImageIsDrawnAgainTest() throws IOException {
+        ImageData image = ImageDataFactory.create(sourceFolder + "image.png");
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        PdfXObject first = new PdfCanvas(pdfDoc.addNewPage()).addImage(image, 10, 10, false);
+        first.flush();
+        PdfPage page = pdfDoc.addNewPage();
+        PdfXObject second = new PdfCanvas(page).addImage(image, 10, 10, false);
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, page.getResources().getResourceNames(PdfName.XObject).size());
+    }
+
+    @Test
+    public void differentDecodeOptionsAreKeptTest() throws IOException {
+        ImageData image = ImageDataFactory.create(readImageBytes());
+        ImageData interpolated = ImageDataFactory.create(readImageBytes());
+        interpolated.setInterpolation(true);
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        PdfImageXObject added = pdfDoc.addImage(image);
+        PdfImageXObject addedInterpolated = pdfDoc.addImage(interpolated);
+
+        Assert.assertNotSame(added, addedInterpolated);
+        Assert.assertNull(added.getPdfObject().get(PdfName.Interpolate));
+        Assert.assertNotNull(addedInterpolated.getPdfObject().get(PdfName.Interpolate));
+    }
+
+    @Test
+    public void changedImageIsNotReusedTest() throws IOException {
+        ImageData image = ImageDataFactory.create(sourceFolder + "image.png");
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        PdfImageXObject added = pdfDoc.addImage(image);
+        image.setInterpolation(true);
+
+        Assert.assertNotSame(added, pdfDoc.addImage(image));
+    }
+
+    @Test
+    public void rawImageIsCreatedOnceTest() {
+        byte[] data = new byte[] {0, 0, 0, 0};
+        ImageData image = ImageDataFactory.create(16, 2, false, RawImageData.CCITTG4, RawImageData.CCITT_BLACKIS1,
+                data, null);
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        PdfImageXObject added = pdfDoc.addImage(image);
+
+        Assert.assertSame(added, pdfDoc.addImage(image));
+        Assert.assertNotNull(added.getPdfObject().getAsDictionary(PdfName.DecodeParms).get(PdfName.BlackIs1));
+    }
+
+    private static byte[] readImageBytes() throws IOException {
+        InputStream is = new FileInputStream(sourceFolder + "image.png");
+        try {
+            return StreamUtil.inputStreamToArray(is);
+        } finally {
+            is.close();
+        }
+    }
+}
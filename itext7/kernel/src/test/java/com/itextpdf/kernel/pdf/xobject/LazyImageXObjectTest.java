@@ -0,0 +1,137 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.xobject;
+
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.io.util.UrlUtil;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+@Category(UnitTest.class)
+public class LazyImageXObjectTest extends ExtendedITextTest {
+
+    private static final String sourceFolder = "./src/test/resources/com/itextpdf/kernel/pdf/xobject/GetImageBytesTest/";
+
+    @Test
+    public void lazyJpegDictionaryTest() throws IOException {
+        String fileName = sourceFolder + "dctdecode.jpg";
+        PdfImageXObject loaded = new PdfImageXObject(ImageDataFactory.createJpeg(UrlUtil.toURL(fileName)));
+        PdfImageXObject lazy = new PdfImageXObject(ImageDataFactory.createJpeg(UrlUtil.toURL(fileName), true));
+
+        Assert.assertNull(lazy.getPdfObject().get(PdfName.Length));
+        Assert.assertEquals(loaded.getPdfObject().toString(), lazy.getPdfObject().toString());
+    }
+
+    @Test
+    public void lazyJpegIsWrittenTest() throws IOException {
+        String fileName = sourceFolder + "dctdecode.jpg";
+        ImageData image = ImageDataFactory.createJpeg(UrlUtil.toURL(fileName), true);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos));
+        new PdfCanvas(pdfDoc.addNewPage()).addImage(image, 10, 10, false);
+        pdfDoc.close();
+
+        Assert.assertArrayEquals(readFile(fileName), readFirstImageBytes(baos.toByteArray()));
+    }
+
+    @Test
+    public void lazyJpegImageBytesTest() throws IOException {
+        String fileName = sourceFolder + "dctdecode.jpg";
+        PdfImageXObject lazy = new PdfImageXObject(ImageDataFactory.createJpeg(UrlUtil.toURL(fileName), true));
+
+        Assert.assertArrayEquals(readFile(fileName), lazy.getImageBytes(false));
+        Assert.assertArrayEquals(readFile(fileName), lazy.getImageBytes(true));
+    }
+
+    @Test
+    public void lazyJpegIsCopiedTest() throws IOException {
+        String fileName = sourceFolder + "dctdecode.jpg";
+        PdfImageXObject lazy = new PdfImageXObject(ImageDataFactory.createJpeg(UrlUtil.toURL(fileName), true));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos));
+        PdfImageXObject copy = lazy.copyTo(pdfDoc);
+        Assert.assertArrayEquals(readFile(fileName), copy.getImageBytes(false));
+        new PdfCanvas(pdfDoc.addNewPage()).addXObject(copy, 10, 10);
+        pdfDoc.close();
+
+        Assert.assertArrayEquals(readFile(fileName), readFirstImageBytes(baos.toByteArray()));
+    }
+
+    private static byte[] readFirstImageBytes(byte[] pdfBytes) throws IOException {
+        PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdfBytes)));
+        PdfDictionary xObjects = pdfDoc.getFirstPage().getResources().getResource(PdfName.XObject);
+        Assert.assertEquals(1, xObjects.size());
+        byte[] imageBytes = new PdfImageXObject(xObjects.getAsStream(xObjects.keySet().iterator().next()))
+                .getImageBytes(false);
+        pdfDoc.close();
+        return imageBytes;
+    }
+
+    private static byte[] readFile(String fileName) throws IOException {
+        InputStream is = new FileInputStream(fileName);
+        try {
+            return StreamUtil.inputStreamToArray(is);
+        } finally {
+            is.close();
+        }
+    }
+}
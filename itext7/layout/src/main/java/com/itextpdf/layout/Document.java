@@ -187,6 +187,12 @@ public class Document extends RootElement<Document> {
     /**
      * Forces all registered renderers (including child element renderers) to
      * flush their contents to the content stream.
+     * <p>
+     * The renderers are drawn on the calling thread in the order they were laid out. Drawing cannot be moved
+     * to other threads, since it changes the state of the shared {@link PdfDocument}, which is not synchronized:
+     * the glyphs used by the {@link com.itextpdf.kernel.font.PdfFont} subsets, the fonts and images registered
+     * in the document, the objects made indirect in its cross-reference table and the position in its tag
+     * structure, which also fixes the order of the tagged content.
      */
     public void flush() {
         rootRenderer.flush();
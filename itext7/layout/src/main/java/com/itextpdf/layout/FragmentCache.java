@@ -0,0 +1,261 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout;
+
+import com.itextpdf.io.util.LruCache;
+import com.itextpdf.kernel.PdfException;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfStream;
+import com.itextpdf.kernel.pdf.PdfString;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.WriterProperties;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.element.IBlockElement;
+import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.layout.LayoutArea;
+import com.itextpdf.layout.layout.LayoutContext;
+import com.itextpdf.layout.layout.LayoutResult;
+import com.itextpdf.layout.renderer.DrawContext;
+import com.itextpdf.layout.renderer.IRenderer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An opt-in cache of laid out fragments, e.g. headers, footers, address blocks or legal paragraphs,
+ * which are repeated many times in one document or across many documents.
+ * <p>
+ * A fragment is identified by a key, chosen by the caller so that it describes the content and the style of
+ * the element, and by the width available for it. The first time a fragment is requested, the element is laid out
+ * once in a separate in-memory document. Every following request with the same key and width skips the layout:
+ * the laid out content is copied into the target document as a {@link PdfFormXObject} and returned
+ * as an {@link Image}, which can be added to a {@link Document} or a {@link Canvas} instead of the element.
+ * Within one document all the requests of a fragment share the same form XObject stream, unless the document
+ * has already flushed it.
+ * <p>
+ * Since the element is laid out outside of the target document, it shall define all the properties it depends on,
+ * like fonts or font provider, itself, and shall not refer to objects bound to a specific
+ * {@link PdfDocument}, like {@link com.itextpdf.kernel.font.PdfFont} instances. A fragment cannot be split
+ * across areas, so it is meant for the content which fits into one page.
+ * <p>
+ * A fragment is added as a single image, so the structure of its element is lost: fragments cannot be added
+ * to tagged documents.
+ * <p>
+ * At most {@link #DEFAULT_CAPACITY} laid out fragments are kept by default, see {@link #setCapacity(int)};
+ * when there are more, the least recently used ones are laid out again on their next request.
+ */
+public class FragmentCache {
+
+    /**
+     * The default maximum number of cached fragments.
+     */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private static final float MAX_FRAGMENT_HEIGHT = 14400;
+
+    // fragment documents never leave the cache, so they are all written with the same id
+    private static final PdfString FRAGMENT_DOCUMENT_ID = new PdfString("fragment");
+
+    private final LruCache<FragmentKey, byte[]> fragments = new LruCache<>();
+
+    // The form XObjects are referenced weakly, so that neither the target documents nor their objects are kept
+    // by the cache: a form XObject stays in memory while its document has not flushed it.
+    private final Map<PdfDocument, Map<FragmentKey, WeakReference<PdfStream>>> documentFragments = new WeakHashMap<>();
+
+    /**
+     * Creates a cache of at most {@link #DEFAULT_CAPACITY} fragments.
+     */
+    public FragmentCache() {
+        fragments.setCapacity(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Sets the maximum number of cached fragments. Zero disables the cache, so that every fragment is laid out
+     * on each request. If more fragments are cached, the least recently used ones are removed.
+     *
+     * @param capacity the maximum number of cached fragments
+     */
+    public void setCapacity(int capacity) {
+        fragments.setCapacity(capacity);
+    }
+
+    /**
+     * Gets the maximum number of cached fragments.
+     *
+     * @return the maximum number of cached fragments
+     */
+    public int getCapacity() {
+        return fragments.getCapacity();
+    }
+
+    /**
+     * Gets the laid out fragment for the target document, laying out the element only if the fragment
+     * has not been cached yet.
+     *
+     * @param pdfDocument the document to which the fragment will be added
+     * @param key         the key describing the content and the style of the element
+     * @param width       the width available for the element
+     * @param element     the element to be laid out if the fragment is not cached yet
+     * @return an {@link Image} of the laid out element, which can be added to the target document
+     * @throws IllegalArgumentException if the target document is tagged
+     */
+    public Image getFragment(PdfDocument pdfDocument, String key, float width, IBlockElement element) {
+        if (pdfDocument.isTagged()) {
+            throw new IllegalArgumentException("Fragments cannot be added to tagged documents.");
+        }
+        FragmentKey fragmentKey = new FragmentKey(key, width);
+        byte[] fragment = fragments.get(fragmentKey);
+        if (fragment == null) {
+            fragment = layoutFragment(element, width);
+            fragments.put(fragmentKey, fragment);
+        }
+        return new Image(getFormXObject(pdfDocument, fragmentKey, fragment));
+    }
+
+    /**
+     * Checks whether the fragment has already been laid out.
+     *
+     * @param key   the key describing the content and the style of the element
+     * @param width the width available for the element
+     * @return true if the fragment is cached, false otherwise
+     */
+    public boolean containsFragment(String key, float width) {
+        return fragments.get(new FragmentKey(key, width)) != null;
+    }
+
+    /**
+     * Removes all the cached fragments.
+     */
+    public void clear() {
+        fragments.clear();
+        synchronized (documentFragments) {
+            documentFragments.clear();
+        }
+    }
+
+    private PdfFormXObject getFormXObject(PdfDocument pdfDocument, FragmentKey fragmentKey, byte[] fragment) {
+        synchronized (documentFragments) {
+            Map<FragmentKey, WeakReference<PdfStream>> xObjects = documentFragments.get(pdfDocument);
+            if (xObjects == null) {
+                xObjects = new HashMap<>();
+                documentFragments.put(pdfDocument, xObjects);
+            }
+            WeakReference<PdfStream> reference = xObjects.get(fragmentKey);
+            PdfStream stream = reference != null ? reference.get() : null;
+            if (stream != null && !stream.isFlushed()) {
+                return new PdfFormXObject(stream);
+            }
+            PdfFormXObject xObject;
+            try {
+                PdfDocument fragmentDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(fragment)));
+                xObject = fragmentDocument.getFirstPage().copyAsFormXObject(pdfDocument);
+                fragmentDocument.close();
+            } catch (IOException e) {
+                throw new PdfException(PdfException.IoException, e);
+            }
+            xObjects.put(fragmentKey, new WeakReference<>(xObject.getPdfObject()));
+            return xObject;
+        }
+    }
+
+    private static byte[] layoutFragment(IBlockElement element, float width) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos, new WriterProperties()
+                .setInitialDocumentId(FRAGMENT_DOCUMENT_ID).setModifiedDocumentId(FRAGMENT_DOCUMENT_ID)));
+        Document document = new Document(pdfDocument, new PageSize(width, MAX_FRAGMENT_HEIGHT));
+        document.setMargins(0, 0, 0, 0);
+
+        // the element is laid out once in a high area and drawn on a page of exactly its height,
+        // so that the drawn content can not differ from the measured one
+        IRenderer renderer = element.createRendererSubTree().setParent(document.getRenderer());
+        LayoutResult result = renderer.layout(new LayoutContext(new LayoutArea(1, new Rectangle(width, MAX_FRAGMENT_HEIGHT))));
+        if (result.getStatus() != LayoutResult.FULL) {
+            throw new IllegalArgumentException("The element of the fragment does not fit into a single area.");
+        }
+        Rectangle occupiedArea = result.getOccupiedArea().getBBox();
+        PdfPage page = pdfDocument.addNewPage(new PageSize(width, occupiedArea.getHeight()));
+        PdfCanvas canvas = new PdfCanvas(page);
+        canvas.concatMatrix(1, 0, 0, 1, 0, -occupiedArea.getBottom());
+        renderer.draw(new DrawContext(pdfDocument, canvas));
+        document.close();
+        return baos.toByteArray();
+    }
+
+    private static final class FragmentKey {
+        private final String key;
+        private final float width;
+
+        FragmentKey(String key, float width) {
+            this.key = key;
+            this.width = width;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FragmentKey that = (FragmentKey) o;
+            return Float.compare(that.width, width) == 0 && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + Float.floatToIntBits(width);
+        }
+    }
+}
@@ -55,6 +55,7 @@ import com.itextpdf.layout.element.IElement;
 import com.itextpdf.layout.element.Image;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.font.FontProvider;
+import com.itextpdf.layout.profiling.ILayoutProfilingListener;
 import com.itextpdf.layout.property.FontKerning;
 import com.itextpdf.layout.property.HorizontalAlignment;
 import com.itextpdf.layout.property.Leading;
@@ -149,6 +150,17 @@ public abstract class RootElement<T extends IPropertyContainer> extends ElementP
         setProperty(Property.FONT_PROVIDER, fontProvider);
     }
 
+    /**
+     * Sets {@link ILayoutProfilingListener}, which is notified about the time spent in layout, drawing and
+     * font selection of the added elements.
+     * Note, layout profiling listener is inherited property.
+     *
+     * @param listener instance of {@link ILayoutProfilingListener}, or null to disable profiling.
+     */
+    public void setLayoutProfilingListener(ILayoutProfilingListener listener) {
+        setProperty(Property.LAYOUT_PROFILING_LISTENER, listener);
+    }
+
     @Override
     public boolean hasProperty(int property) {
         return hasOwnProperty(property);
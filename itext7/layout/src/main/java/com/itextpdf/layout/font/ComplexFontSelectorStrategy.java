@@ -82,18 +82,13 @@ public class ComplexFontSelectorStrategy extends FontSelectorStrategy {
         font = null;
         int nextUnignorable = nextSignificantIndex();
         if (nextUnignorable < text.length()) {
+            int codePoint = isSurrogatePair(text, nextUnignorable)
+                    ? TextUtil.convertToUtf32(text, nextUnignorable)
+                    : (int) text.charAt(nextUnignorable);
             for (FontInfo f : selector.getFonts()) {
-                int codePoint = isSurrogatePair(text, nextUnignorable)
-                        ? TextUtil.convertToUtf32(text, nextUnignorable)
-                        : (int) text.charAt(nextUnignorable);
-
-                if (f.getFontUnicodeRange().contains(codePoint)) {
-                    PdfFont currentFont = getPdfFont(f);
-                    Glyph glyph = currentFont.getGlyph(codePoint);
-                    if (null != glyph && 0 != glyph.getCode()) {
-                        font = currentFont;
-                        break;
-                    }
+                if (provider.isCodePointCovered(f, codePoint, tempFonts)) {
+                    font = getPdfFont(f);
+                    break;
                 }
             }
         }
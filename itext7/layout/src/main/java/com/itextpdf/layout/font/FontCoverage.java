@@ -0,0 +1,111 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.font;
+
+/**
+ * Unicode coverage of a font, filled lazily as code points are checked.
+ * <p>
+ * Code points are grouped in blocks of 256. Each checked block stores two bitmaps: which code points
+ * of the block have been checked and which of them have a glyph in the font. A font usually covers
+ * a few blocks, so blocks are allocated on first use only.
+ */
+final class FontCoverage {
+
+    static final int UNKNOWN = 0;
+    static final int COVERED = 1;
+    static final int NOT_COVERED = 2;
+
+    private static final int BLOCK_SHIFT = 8;
+    private static final int WORDS_PER_BLOCK = (1 << BLOCK_SHIFT) >> 5;
+    private static final int BLOCK_COUNT = (Character.MAX_CODE_POINT >> BLOCK_SHIFT) + 1;
+
+    // the first WORDS_PER_BLOCK words of a block mark checked code points, the rest mark covered ones
+    private final int[][] blocks = new int[BLOCK_COUNT][];
+
+    /**
+     * Gets the coverage state of the code point.
+     *
+     * @param codePoint the code point to check
+     * @return {@link #COVERED}, {@link #NOT_COVERED} or {@link #UNKNOWN} if the code point has not been checked yet
+     */
+    int get(int codePoint) {
+        if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+            return NOT_COVERED;
+        }
+        int[] block = blocks[codePoint >> BLOCK_SHIFT];
+        if (block == null) {
+            return UNKNOWN;
+        }
+        int word = (codePoint >> 5) & (WORDS_PER_BLOCK - 1);
+        int mask = 1 << (codePoint & 31);
+        if ((block[word] & mask) == 0) {
+            return UNKNOWN;
+        }
+        return (block[WORDS_PER_BLOCK + word] & mask) != 0 ? COVERED : NOT_COVERED;
+    }
+
+    /**
+     * Stores the result of the coverage check of the code point.
+     *
+     * @param codePoint the checked code point
+     * @param covered   whether the font has a glyph for the code point
+     */
+    void set(int codePoint, boolean covered) {
+        if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+            return;
+        }
+        int blockIndex = codePoint >> BLOCK_SHIFT;
+        int[] block = blocks[blockIndex];
+        if (block == null) {
+            block = new int[WORDS_PER_BLOCK * 2];
+            blocks[blockIndex] = block;
+        }
+        int word = (codePoint >> 5) & (WORDS_PER_BLOCK - 1);
+        int mask = 1 << (codePoint & 31);
+        if (covered) {
+            block[WORDS_PER_BLOCK + word] |= mask;
+        }
+        block[word] |= mask;
+    }
+}
@@ -48,6 +48,7 @@ import com.itextpdf.io.font.FontProgramFactory;
 import com.itextpdf.io.font.PdfEncodings;
 import com.itextpdf.io.font.Type1Font;
 import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.io.font.otf.Glyph;
 import com.itextpdf.io.util.FileUtil;
 import com.itextpdf.kernel.PdfException;
 import com.itextpdf.kernel.font.PdfFont;
@@ -81,6 +82,8 @@ public class FontProvider {
 
     private final FontSet fontSet;
     private final FontSelectorCache fontSelectorCache;
+    // coverage of the fonts of fontSet does not depend on the document, so it survives reset()
+    private final Map<FontInfo, FontCoverage> fontCoverages = new HashMap<>();
     /**
      * The default font-family is used by {@link FontSelector} if it's impossible to select a font for all other set font-families
      */
@@ -370,6 +373,40 @@ public class FontProvider {
         }
     }
 
+    /**
+     * Checks whether the {@link PdfFont} created for the font info has a glyph for the code point.
+     * The result is cached per font info of the {@link FontSet} of this provider, so the following checks of
+     * the same code point do not create the {@link PdfFont} if it does not cover the code point.
+     * Temporary fonts are not cached, as they usually belong to a single document.
+     *
+     * @param fontInfo  font info, to create {@link FontProgram} and {@link PdfFont}.
+     * @param codePoint the code point to check.
+     * @param tempFonts Set of temporary fonts.
+     * @return true if the font has a glyph for the code point, otherwise false.
+     */
+    boolean isCodePointCovered(FontInfo fontInfo, int codePoint, FontSet tempFonts) {
+        if (!fontInfo.getFontUnicodeRange().contains(codePoint)) {
+            return false;
+        }
+        FontCoverage coverage = fontCoverages.get(fontInfo);
+        if (coverage == null) {
+            if (!fontSet.contains(fontInfo)) {
+                Glyph glyph = getPdfFont(fontInfo, tempFonts).getGlyph(codePoint);
+                return null != glyph && 0 != glyph.getCode();
+            }
+            coverage = new FontCoverage();
+            fontCoverages.put(fontInfo, coverage);
+        }
+        int state = coverage.get(codePoint);
+        if (state == FontCoverage.UNKNOWN) {
+            Glyph glyph = getPdfFont(fontInfo, tempFonts).getGlyph(codePoint);
+            boolean covered = null != glyph && 0 != glyph.getCode();
+            coverage.set(codePoint, covered);
+            return covered;
+        }
+        return state == FontCoverage.COVERED;
+    }
+
     /**
      * Resets {@link FontProvider#pdfFonts PdfFont cache}. After calling that method {@link FontProvider} can be reused with another {@link PdfDocument}
      */
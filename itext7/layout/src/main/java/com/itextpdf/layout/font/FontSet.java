@@ -362,6 +362,16 @@ public final class FontSet {
         return false;
     }
 
+    /**
+     * Checks whether the font info was added to this set.
+     *
+     * @param fontInfo the font info
+     * @return true, if {@link FontSet} contains the font info
+     */
+    boolean contains(FontInfo fontInfo) {
+        return fonts.contains(fontInfo);
+    }
+
     /**
      * Search in existed fonts for PostScript name or full font name.
      * <p>
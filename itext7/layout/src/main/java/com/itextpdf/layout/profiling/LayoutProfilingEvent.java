@@ -0,0 +1,113 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.profiling;
+
+/**
+ * Describes a measured step of layout or drawing: what kind of step it is, which renderer class it has been
+ * performed for, on which page and how long it has taken.
+ */
+public class LayoutProfilingEvent {
+
+    private final LayoutProfilingEventType type;
+    private final Class<?> rendererClass;
+    private final int pageNumber;
+    private final long duration;
+
+    /**
+     * Creates a profiling event.
+     *
+     * @param type          the type of the event
+     * @param rendererClass the class of the renderer for which the step has been performed
+     * @param pageNumber    the number of the page on which the step has been performed
+     * @param duration      the duration of the step in nanoseconds, 0 for events which only count occurrences
+     */
+    public LayoutProfilingEvent(LayoutProfilingEventType type, Class<?> rendererClass, int pageNumber, long duration) {
+        this.type = type;
+        this.rendererClass = rendererClass;
+        this.pageNumber = pageNumber;
+        this.duration = duration;
+    }
+
+    /**
+     * Gets the type of the event.
+     *
+     * @return the {@link LayoutProfilingEventType} of the event
+     */
+    public LayoutProfilingEventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the class of the renderer for which the step has been performed.
+     *
+     * @return the renderer class
+     */
+    public Class<?> getRendererClass() {
+        return rendererClass;
+    }
+
+    /**
+     * Gets the number of the page on which the step has been performed.
+     *
+     * @return the page number
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * Gets the duration of the step.
+     *
+     * @return the duration in nanoseconds, 0 for events which only count occurrences
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "{\"type\":\"" + type + "\",\"renderer\":\"" + rendererClass.getName() + "\",\"page\":" + pageNumber
+                + ",\"duration\":" + duration + "}";
+    }
+}
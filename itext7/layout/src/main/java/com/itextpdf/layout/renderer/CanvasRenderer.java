@@ -119,7 +119,12 @@ public class CanvasRenderer extends RootRenderer {
                     tagPointer.setContentStreamForTagging(canvas.getPdfCanvas().getContentStream());
                 }
             }
-            resultRenderer.draw(new DrawContext(canvas.getPdfDocument(), canvas.getPdfCanvas(), toTag));
+            // looking the page up is linear in the number of pages, so it is only done for the profiling listener
+            int pageNumber = 0;
+            if (canvas.isCanvasOfPage() && this.<Object>getProperty(Property.LAYOUT_PROFILING_LISTENER) != null) {
+                pageNumber = canvas.getPdfDocument().getPageNumber(canvas.getPage());
+            }
+            drawChild(resultRenderer, new DrawContext(canvas.getPdfDocument(), canvas.getPdfCanvas(), toTag), pageNumber);
             if (toTag) {
                 tagPointer.setContentStreamForTagging(null);
             }
@@ -144,7 +144,7 @@ public class DocumentRenderer extends RootRenderer {
             if (pdfDocument.isTagged()) {
                 pdfDocument.getTagStructureContext().getAutoTaggingPointer().setPageForTagging(correspondingPage);
             }
-            resultRenderer.draw(new DrawContext(pdfDocument, new PdfCanvas(correspondingPage, wrapOldContent), pdfDocument.isTagged()));
+            drawChild(resultRenderer, new DrawContext(pdfDocument, new PdfCanvas(correspondingPage, wrapOldContent), pdfDocument.isTagged()), pageNum);
         }
     }
 
@@ -0,0 +1,152 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.renderer;
+
+import com.itextpdf.io.font.otf.Glyph;
+import com.itextpdf.io.font.otf.GlyphLine;
+
+/**
+ * Memoized advances of the glyphs of a {@link GlyphLine}, measured the way {@link TextRenderer} measures them
+ * for a fixed font size, horizontal scaling, character spacing and word spacing.
+ * <p>
+ * The measurements are indexed by the position of the glyph in the line and are shared by the split and
+ * overflow renderers of a {@link TextRenderer}, since those keep the glyphs of the initial line.
+ * Prefix sums of the advances are kept as well, so that the width of a range of glyphs is
+ * obtained without walking over the range again.
+ */
+final class GlyphLineMeasurements {
+
+    private final float fontSize;
+    private final float hScale;
+    private final Float characterSpacing;
+    private final Float wordSpacing;
+
+    private final Glyph[] glyphs;
+    private final float[] charWidths;
+    private final float[] xAdvances;
+
+    // widthSums[i] is the width of the glyphs [0; i), valid for i <= validWidthSums
+    private final double[] widthSums;
+    private int validWidthSums;
+
+    GlyphLineMeasurements(int size, float fontSize, float hScale, Float characterSpacing, Float wordSpacing) {
+        this.fontSize = fontSize;
+        this.hScale = hScale;
+        this.characterSpacing = characterSpacing;
+        this.wordSpacing = wordSpacing;
+        this.glyphs = new Glyph[size];
+        this.charWidths = new float[size];
+        this.xAdvances = new float[size];
+        this.widthSums = new double[size + 1];
+        this.validWidthSums = 0;
+    }
+
+    /**
+     * Checks whether these measurements can be used for a line of the given size and the given text properties.
+     */
+    boolean isMeasuredWith(int size, float fontSize, float hScale, Float characterSpacing, Float wordSpacing) {
+        return glyphs.length == size && this.fontSize == fontSize && this.hScale == hScale
+                && floatEquals(this.characterSpacing, characterSpacing) && floatEquals(this.wordSpacing, wordSpacing);
+    }
+
+    /**
+     * Gets the width of the glyph, including character and word spacing, in text space units.
+     */
+    float getCharWidth(GlyphLine line, int index) {
+        measure(line, index);
+        return charWidths[index];
+    }
+
+    /**
+     * Gets the scaled x-advance (e.g. kerning) the glyph applies to the next glyph, in text space units.
+     */
+    float getXAdvance(GlyphLine line, int index) {
+        measure(line, index);
+        return xAdvances[index];
+    }
+
+    /**
+     * Gets the width of the glyphs [start; end) of the line. Non-printable glyphs are skipped and the x-advance
+     * of the glyph preceding the range is not taken into account.
+     */
+    float getWidth(GlyphLine line, int start, int end) {
+        if (start >= end) {
+            return 0;
+        }
+        ensureWidthSums(line, end);
+        double width = widthSums[end] - widthSums[start];
+        if (start > 0 && !TextRenderer.noPrint(line.get(start))) {
+            width -= xAdvances[start - 1];
+        }
+        return (float) width;
+    }
+
+    private void ensureWidthSums(GlyphLine line, int end) {
+        for (int i = validWidthSums; i < end; i++) {
+            measure(line, i);
+            double advance = 0;
+            if (!TextRenderer.noPrint(glyphs[i])) {
+                advance = charWidths[i] + (i > 0 ? xAdvances[i - 1] : 0);
+            }
+            widthSums[i + 1] = widthSums[i] + advance;
+        }
+        validWidthSums = Math.max(validWidthSums, end);
+    }
+
+    private void measure(GlyphLine line, int index) {
+        Glyph glyph = line.get(index);
+        if (glyphs[index] != glyph) {
+            glyphs[index] = glyph;
+            charWidths[index] = TextRenderer.getCharWidth(glyph, fontSize, hScale, characterSpacing, wordSpacing) / TextRenderer.TEXT_SPACE_COEFF;
+            float xAdvance = glyph.getXAdvance();
+            xAdvances[index] = xAdvance != 0 ? xAdvance * fontSize * hScale / TextRenderer.TEXT_SPACE_COEFF : 0;
+            // the width of the glyph and its x-advance take part in the sums of the following glyphs
+            validWidthSums = Math.min(validWidthSums, index);
+        }
+    }
+
+    private static boolean floatEquals(Float first, Float second) {
+        return first == null ? second == null : first.equals(second);
+    }
+}
@@ -47,6 +47,7 @@ import com.itextpdf.io.LogMessageConstant;
 import com.itextpdf.kernel.geom.AffineTransform;
 import com.itextpdf.kernel.geom.Point;
 import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.canvas.CanvasArtifact;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.pdf.tagutils.TagTreePointer;
@@ -104,7 +105,8 @@ public class ImageRenderer extends AbstractRenderer implements ILeafElementRende
 
         AffineTransform t = new AffineTransform();
         Image modelElement = (Image) (getModelElement());
-        PdfXObject xObject = modelElement.getXObject();
+        // the XObject of an image created from an image resource is not needed for layout, it is an image XObject
+        PdfXObject xObject = modelElement.getImageData() == null ? modelElement.getXObject() : null;
         imageWidth = modelElement.getImageWidth();
         imageHeight = modelElement.getImageHeight();
 
@@ -311,7 +313,7 @@ public class ImageRenderer extends AbstractRenderer implements ILeafElementRende
             }
         }
 
-        PdfXObject xObject = ((Image) (getModelElement())).getXObject();
+        PdfXObject xObject = getXObjectToDraw(drawContext.getDocument());
         beginElementOpacityApplying(drawContext);
         canvas.addXObject(xObject, matrix[0], matrix[1], matrix[2], matrix[3], (float) fixedXPosition + deltaX, (float) fixedYPosition);
 
@@ -466,8 +468,8 @@ public class ImageRenderer extends AbstractRenderer implements ILeafElementRende
 
     private void getMatrix(AffineTransform t, float imageItselfScaledWidth, float imageItselfScaledHeight) {
         t.getMatrix(matrix);
-        PdfXObject xObject = ((Image) (getModelElement())).getXObject();
-        if (xObject instanceof PdfImageXObject) {
+        Image modelElement = (Image) (getModelElement());
+        if (modelElement.getImageData() != null || modelElement.getXObject() instanceof PdfImageXObject) {
             matrix[0] *= imageItselfScaledWidth;
             matrix[1] *= imageItselfScaledWidth;
             matrix[2] *= imageItselfScaledHeight;
@@ -475,6 +477,15 @@ public class ImageRenderer extends AbstractRenderer implements ILeafElementRende
         }
     }
 
+    private PdfXObject getXObjectToDraw(PdfDocument document) {
+        Image modelElement = (Image) (getModelElement());
+        if (modelElement.getImageData() != null) {
+            // images created from equal image resources share a single XObject within the document
+            return document.addImage(modelElement.getImageData());
+        }
+        return modelElement.getXObject();
+    }
+
     private float adjustPositionAfterRotation(float angle, float maxWidth, float maxHeight) {
         if (angle != 0) {
             AffineTransform t = AffineTransform.getRotateInstance(angle);
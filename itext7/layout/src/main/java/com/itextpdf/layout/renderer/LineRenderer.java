@@ -60,6 +60,9 @@ import com.itextpdf.layout.layout.MinMaxWidthLayoutResult;
 import com.itextpdf.layout.layout.TextLayoutResult;
 import com.itextpdf.layout.minmaxwidth.MinMaxWidth;
 import com.itextpdf.layout.minmaxwidth.MinMaxWidthUtils;
+import com.itextpdf.layout.profiling.ILayoutProfilingListener;
+import com.itextpdf.layout.profiling.LayoutProfilingEvent;
+import com.itextpdf.layout.profiling.LayoutProfilingEventType;
 import com.itextpdf.layout.property.BaseDirection;
 import com.itextpdf.layout.property.FloatPropertyValue;
 import com.itextpdf.layout.property.Leading;
@@ -1226,6 +1229,8 @@ public class LineRenderer extends AbstractRenderer {
      * While resolving TextRenderer may split into several ones with different fonts.
      */
     private void resolveChildrenFonts() {
+        ILayoutProfilingListener profilingListener = this.<ILayoutProfilingListener>getProperty(Property.LAYOUT_PROFILING_LISTENER);
+        long start = profilingListener != null ? System.nanoTime() : 0;
         List<IRenderer> newChildRenderers = new ArrayList<>(childRenderers.size());
         boolean updateChildRendrers = false;
         for (IRenderer child : childRenderers) {
@@ -1241,6 +1246,10 @@ public class LineRenderer extends AbstractRenderer {
         // this mean, that some TextRenderer has been replaced.
         if (updateChildRendrers) {
             childRenderers = newChildRenderers;
+            if (profilingListener != null) {
+                profilingListener.onEvent(new LayoutProfilingEvent(LayoutProfilingEventType.FONT_SELECTION, getClass(),
+                        occupiedArea.getPageNumber(), System.nanoTime() - start));
+            }
         }
     }
 
@@ -54,6 +54,9 @@ import com.itextpdf.layout.layout.PositionedLayoutContext;
 import com.itextpdf.layout.layout.RootLayoutArea;
 import com.itextpdf.layout.margincollapse.MarginsCollapseHandler;
 import com.itextpdf.layout.margincollapse.MarginsCollapseInfo;
+import com.itextpdf.layout.profiling.ILayoutProfilingListener;
+import com.itextpdf.layout.profiling.LayoutProfilingEvent;
+import com.itextpdf.layout.profiling.LayoutProfilingEventType;
 import com.itextpdf.layout.property.ClearPropertyValue;
 import com.itextpdf.layout.property.Property;
 import com.itextpdf.layout.tagging.LayoutTaggingHelper;
@@ -100,6 +103,7 @@ public abstract class RootRenderer extends AbstractRenderer {
         }
 
         boolean marginsCollapsingEnabled = Boolean.TRUE.equals(getPropertyAsBoolean(Property.COLLAPSING_MARGINS));
+        ILayoutProfilingListener profilingListener = this.<ILayoutProfilingListener>getProperty(Property.LAYOUT_PROFILING_LISTENER);
         if (currentArea == null) {
             updateCurrentAndInitialArea(null);
             if (marginsCollapsingEnabled) {
@@ -115,10 +119,11 @@ public abstract class RootRenderer extends AbstractRenderer {
             if (rendererIsFloat && (floatOverflowedCompletely || clearanceOverflowsToNextPage)) {
                 waitingNextPageRenderers.add(renderer);
                 floatOverflowedCompletely = true;
+                reportProfilingEvent(profilingListener, LayoutProfilingEventType.OVERFLOW_RETRY, renderer, currentPageNumber, 0);
                 continue;
             }
 
-            processWaitingKeepWithNextElement(renderer);
+            processWaitingKeepWithNextElement(renderer, profilingListener);
 
             List<IRenderer> resultRenderers = new ArrayList<>();
             LayoutResult result = null;
@@ -130,13 +135,15 @@ public abstract class RootRenderer extends AbstractRenderer {
                 childMarginsInfo = marginsCollapseHandler.startChildMarginsHandling(renderer, currentArea.getBBox());
             }
             while (clearanceOverflowsToNextPage || currentArea != null && renderer != null
-                        && (result = renderer.setParent(this)
-                            .layout(new LayoutContext(currentArea.clone(), childMarginsInfo, floatRendererAreas))).getStatus() != LayoutResult.FULL) {
+                        && (result = layoutChild(renderer.setParent(this),
+                            new LayoutContext(currentArea.clone(), childMarginsInfo, floatRendererAreas), profilingListener)).getStatus() != LayoutResult.FULL) {
                 boolean currentAreaNeedsToBeUpdated = false;
                 if (clearanceOverflowsToNextPage) {
                     result = new LayoutResult(LayoutResult.NOTHING, null, null, renderer);
                     currentAreaNeedsToBeUpdated = true;
                 }
+                reportProfilingEvent(profilingListener, result.getStatus() == LayoutResult.PARTIAL
+                        ? LayoutProfilingEventType.SPLIT : LayoutProfilingEventType.OVERFLOW_RETRY, renderer, currentPageNumber, 0);
                 if (result.getStatus() == LayoutResult.PARTIAL) {
                     if (rendererIsFloat) {
                         waitingNextPageRenderers.add(result.getOverflowRenderer());
@@ -284,7 +291,7 @@ public abstract class RootRenderer extends AbstractRenderer {
             }
             Rectangle fullBbox = layoutArea.getBBox().clone();
             preparePositionedRendererAndAreaForLayout(renderer, fullBbox, layoutArea.getBBox());
-            renderer.layout(new PositionedLayoutContext(new LayoutArea(layoutArea.getPageNumber(), fullBbox), layoutArea));
+            layoutChild(renderer, new PositionedLayoutContext(new LayoutArea(layoutArea.getPageNumber(), fullBbox), layoutArea), profilingListener);
 
             if (immediateFlush) {
                 flushSingleRenderer(renderer);
@@ -351,6 +358,24 @@ public abstract class RootRenderer extends AbstractRenderer {
 
     protected abstract LayoutArea updateCurrentArea(LayoutResult overflowResult);
 
+    /**
+     * Draws the renderer, reporting the time spent to the {@link ILayoutProfilingListener} if one is set.
+     *
+     * @param renderer    the renderer to be drawn
+     * @param drawContext the context for drawing operations
+     * @param pageNumber  the number of the page the renderer is drawn on
+     */
+    void drawChild(IRenderer renderer, DrawContext drawContext, int pageNumber) {
+        ILayoutProfilingListener profilingListener = this.<ILayoutProfilingListener>getProperty(Property.LAYOUT_PROFILING_LISTENER);
+        if (profilingListener == null) {
+            renderer.draw(drawContext);
+        } else {
+            long start = System.nanoTime();
+            renderer.draw(drawContext);
+            reportProfilingEvent(profilingListener, LayoutProfilingEventType.DRAW, renderer, pageNumber, System.nanoTime() - start);
+        }
+    }
+
     protected void flushWaitingDrawingElements() {
         for (int i = 0; i < waitingDrawingElements.size(); ++i) {
             IRenderer waitingDrawingElement = waitingDrawingElements.get(i);
@@ -383,16 +408,33 @@ public abstract class RootRenderer extends AbstractRenderer {
         }
     }
 
-    private void processWaitingKeepWithNextElement(IRenderer renderer) {
+    private LayoutResult layoutChild(IRenderer renderer, LayoutContext layoutContext, ILayoutProfilingListener profilingListener) {
+        if (profilingListener == null) {
+            return renderer.layout(layoutContext);
+        }
+        long start = System.nanoTime();
+        LayoutResult result = renderer.layout(layoutContext);
+        reportProfilingEvent(profilingListener, LayoutProfilingEventType.LAYOUT, renderer, layoutContext.getArea().getPageNumber(), System.nanoTime() - start);
+        return result;
+    }
+
+    private static void reportProfilingEvent(ILayoutProfilingListener profilingListener, LayoutProfilingEventType type, IRenderer renderer, int pageNumber, long duration) {
+        if (profilingListener != null) {
+            profilingListener.onEvent(new LayoutProfilingEvent(type, renderer.getClass(), pageNumber, duration));
+        }
+    }
+
+    private void processWaitingKeepWithNextElement(IRenderer renderer, ILayoutProfilingListener profilingListener) {
         if (keepWithNextHangingRenderer != null) {
             LayoutArea rest = currentArea.clone();
             rest.getBBox().setHeight(rest.getBBox().getHeight() - keepWithNextHangingRendererLayoutResult.getOccupiedArea().getBBox().getHeight());
             boolean ableToProcessKeepWithNext = false;
-            if (renderer.setParent(this).layout(new LayoutContext(rest)).getStatus() != LayoutResult.NOTHING) {
+            if (layoutChild(renderer.setParent(this), new LayoutContext(rest), profilingListener).getStatus() != LayoutResult.NOTHING) {
                 // The area break will not be introduced and we are safe to place everything as is
                 shrinkCurrentAreaAndProcessRenderer(keepWithNextHangingRenderer, new ArrayList<IRenderer>(), keepWithNextHangingRendererLayoutResult);
                 ableToProcessKeepWithNext = true;
             } else {
+                reportProfilingEvent(profilingListener, LayoutProfilingEventType.OVERFLOW_RETRY, keepWithNextHangingRenderer, currentPageNumber, 0);
                 float originalElementHeight = keepWithNextHangingRendererLayoutResult.getOccupiedArea().getBBox().getHeight();
                 List<Float> trySplitHeightPoints = new ArrayList<>();
                 float delta = 35;
@@ -404,15 +446,15 @@ public abstract class RootRenderer extends AbstractRenderer {
                     RootLayoutArea firstElementSplitLayoutArea = (RootLayoutArea) currentArea.clone();
                     firstElementSplitLayoutArea.getBBox().setHeight(curElementSplitHeight).
                             moveUp(currentArea.getBBox().getHeight() - curElementSplitHeight);
-                    LayoutResult firstElementSplitLayoutResult = keepWithNextHangingRenderer.setParent(this).layout(new LayoutContext(firstElementSplitLayoutArea.clone()));
+                    LayoutResult firstElementSplitLayoutResult = layoutChild(keepWithNextHangingRenderer.setParent(this), new LayoutContext(firstElementSplitLayoutArea.clone()), profilingListener);
                     if (firstElementSplitLayoutResult.getStatus() == LayoutResult.PARTIAL) {
                         RootLayoutArea storedArea = currentArea;
                         updateCurrentAndInitialArea(firstElementSplitLayoutResult);
-                        LayoutResult firstElementOverflowLayoutResult = firstElementSplitLayoutResult.getOverflowRenderer().layout(new LayoutContext(currentArea.clone()));
+                        LayoutResult firstElementOverflowLayoutResult = layoutChild(firstElementSplitLayoutResult.getOverflowRenderer(), new LayoutContext(currentArea.clone()), profilingListener);
                         if (firstElementOverflowLayoutResult.getStatus() == LayoutResult.FULL) {
                             LayoutArea secondElementLayoutArea = currentArea.clone();
                             secondElementLayoutArea.getBBox().setHeight(secondElementLayoutArea.getBBox().getHeight() - firstElementOverflowLayoutResult.getOccupiedArea().getBBox().getHeight());
-                            LayoutResult secondElementLayoutResult = renderer.setParent(this).layout(new LayoutContext(secondElementLayoutArea));
+                            LayoutResult secondElementLayoutResult = layoutChild(renderer.setParent(this), new LayoutContext(secondElementLayoutArea), profilingListener);
                             if (secondElementLayoutResult.getStatus() != LayoutResult.NOTHING) {
                                 ableToProcessKeepWithNext = true;
 
@@ -433,11 +475,11 @@ public abstract class RootRenderer extends AbstractRenderer {
             if (!ableToProcessKeepWithNext && !currentArea.isEmptyArea()) {
                 RootLayoutArea storedArea = currentArea;
                 updateCurrentAndInitialArea(null);
-                LayoutResult firstElementLayoutResult = keepWithNextHangingRenderer.setParent(this).layout(new LayoutContext(currentArea.clone()));
+                LayoutResult firstElementLayoutResult = layoutChild(keepWithNextHangingRenderer.setParent(this), new LayoutContext(currentArea.clone()), profilingListener);
                 if (firstElementLayoutResult.getStatus() == LayoutResult.FULL) {
                     LayoutArea secondElementLayoutArea = currentArea.clone();
                     secondElementLayoutArea.getBBox().setHeight(secondElementLayoutArea.getBBox().getHeight() - firstElementLayoutResult.getOccupiedArea().getBBox().getHeight());
-                    LayoutResult secondElementLayoutResult = renderer.setParent(this).layout(new LayoutContext(secondElementLayoutArea));
+                    LayoutResult secondElementLayoutResult = layoutChild(renderer.setParent(this), new LayoutContext(secondElementLayoutArea), profilingListener);
                     if (secondElementLayoutResult.getStatus() != LayoutResult.NOTHING) {
                         ableToProcessKeepWithNext = true;
                         shrinkCurrentAreaAndProcessRenderer(keepWithNextHangingRenderer, new ArrayList<IRenderer>(), keepWithNextHangingRendererLayoutResult);
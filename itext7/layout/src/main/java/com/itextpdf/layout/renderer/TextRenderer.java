@@ -124,6 +124,11 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
 
     protected GlyphLine savedWordBreakAtLineEnding;
 
+    // measurements of the glyphs of text, shared with the split and overflow renderers
+    private GlyphLineMeasurements textMeasurements;
+    // measurements of the glyphs of line, null if line does not share the glyphs of text
+    private GlyphLineMeasurements lineMeasurements;
+
     /**
      * Creates a TextRenderer from its corresponding layout object.
      *
@@ -216,6 +221,9 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
         line = new GlyphLine(text);
         line.start = line.end = -1;
 
+        GlyphLineMeasurements measurements = getTextMeasurements(fontSize.getValue(), hScale, characterSpacing, wordSpacing);
+        lineMeasurements = measurements;
+
         float[] ascenderDescender = calculateAscenderDescender(font);
         float ascender = ascenderDescender[0];
         float descender = ascenderDescender[1];
@@ -318,11 +326,8 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
                     tabAnchorCharacter = null;
                 }
 
-                float glyphWidth = getCharWidth(currentGlyph, fontSize.getValue(), hScale, characterSpacing, wordSpacing) / TEXT_SPACE_COEFF;
-                float xAdvance = previousCharPos != -1 ? text.get(previousCharPos).getXAdvance() : 0;
-                if (xAdvance != 0) {
-                    xAdvance = scaleXAdvance(xAdvance, fontSize.getValue(), hScale) / TEXT_SPACE_COEFF;
-                }
+                float glyphWidth = measurements.getCharWidth(text, ind);
+                float xAdvance = previousCharPos != -1 ? measurements.getXAdvance(text, previousCharPos) : 0;
                 if (!noSoftWrap
                         && (nonBreakablePartFullWidth + glyphWidth + xAdvance + italicSkewAddition + boldSimulationAddition) > layoutBox.getWidth() - currentLineWidth
                         && firstCharacterWhichExceedsAllowedWidth == -1) {
@@ -436,6 +441,7 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
                                             lineCopy.add(font.getGlyph(hyphenationConfig.getHyphenSymbol()));
                                             lineCopy.end++;
                                             line = lineCopy;
+                                            lineMeasurements = null;
 
                                             // TODO these values are based on whole word. recalculate properly based on hyphenated part
                                             currentLineAscender = Math.max(currentLineAscender, nonBreakablePartMaxAscender);
@@ -641,6 +647,7 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
             }
 
             otfFeaturesApplied = true;
+            resetMeasurements();
         }
     }
 
@@ -999,6 +1006,7 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
         this.text.start = leftPos;
         this.text.end = rightPos;
         this.otfFeaturesApplied = false;
+        resetMeasurements();
     }
 
     public GlyphLine getText() {
@@ -1154,6 +1162,8 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
         splitRenderer.otfFeaturesApplied = otfFeaturesApplied;
         splitRenderer.isLastRendererForModelElement = false;
         splitRenderer.addAllProperties(getOwnProperties());
+        splitRenderer.textMeasurements = textMeasurements;
+        splitRenderer.lineMeasurements = lineMeasurements;
 
         TextRenderer overflowRenderer = createOverflowRenderer();
         overflowRenderer.setText(text, initialOverflowTextPos, text.end);
@@ -1161,6 +1171,7 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
         overflowRenderer.otfFeaturesApplied = otfFeaturesApplied;
         overflowRenderer.parent = parent;
         overflowRenderer.addAllProperties(getOwnProperties());
+        overflowRenderer.textMeasurements = textMeasurements;
 
         return new TextRenderer[]{splitRenderer, overflowRenderer};
     }
@@ -1194,9 +1205,13 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
             Logger logger = LoggerFactory.getLogger(TextRenderer.class);
             logger.error(MessageFormatUtil.format(LogMessageConstant.PROPERTY_IN_PERCENTS_NOT_SUPPORTED, Property.FONT_SIZE));
         }
-        return getGlyphLineWidth(line, fontSize.getValue(),
-                (float) this.getPropertyAsFloat(Property.HORIZONTAL_SCALING, 1f),
-                this.getPropertyAsFloat(Property.CHARACTER_SPACING), this.getPropertyAsFloat(Property.WORD_SPACING));
+        float hScale = (float) this.getPropertyAsFloat(Property.HORIZONTAL_SCALING, 1f);
+        Float characterSpacing = this.getPropertyAsFloat(Property.CHARACTER_SPACING);
+        Float wordSpacing = this.getPropertyAsFloat(Property.WORD_SPACING);
+        if (lineMeasurements != null && lineMeasurements.isMeasuredWith(line.size(), fontSize.getValue(), hScale, characterSpacing, wordSpacing)) {
+            return lineMeasurements.getWidth(line, line.start, line.end);
+        }
+        return getGlyphLineWidth(line, fontSize.getValue(), hScale, characterSpacing, wordSpacing);
     }
 
     /**
@@ -1247,6 +1262,7 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
         this.font = font;
         this.otfFeaturesApplied = false;
         this.strToBeConverted = null;
+        resetMeasurements();
         setProperty(Property.FONT, font);
     }
 
@@ -1299,7 +1315,7 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
         }
     }
 
-    private static boolean noPrint(Glyph g) {
+    static boolean noPrint(Glyph g) {
         if (!g.hasValidUnicode()) {
             return false;
         }
@@ -1311,7 +1327,7 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
         return TextUtil.isNonBreakingHyphen(text.get(ind)) || (ind + 1 < text.end && TextUtil.isNonBreakingHyphen(text.get(ind + 1))) || ind - 1 >= text.start && TextUtil.isNonBreakingHyphen(text.get(ind - 1));
     }
 
-    private float getCharWidth(Glyph g, float fontSize, Float hScale, Float characterSpacing, Float wordSpacing) {
+    static float getCharWidth(Glyph g, float fontSize, Float hScale, Float characterSpacing, Float wordSpacing) {
         if (hScale == null)
             hScale = 1f;
 
@@ -1383,7 +1399,20 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
             text = convertToGlyphLine(strToBeConverted);
             otfFeaturesApplied = false;
             strToBeConverted = null;
+            resetMeasurements();
+        }
+    }
+
+    private GlyphLineMeasurements getTextMeasurements(float fontSize, float hScale, Float characterSpacing, Float wordSpacing) {
+        if (textMeasurements == null || !textMeasurements.isMeasuredWith(text.size(), fontSize, hScale, characterSpacing, wordSpacing)) {
+            textMeasurements = new GlyphLineMeasurements(text.size(), fontSize, hScale, characterSpacing, wordSpacing);
         }
+        return textMeasurements;
+    }
+
+    private void resetMeasurements() {
+        textMeasurements = null;
+        lineMeasurements = null;
     }
 
     private void saveWordBreakIfNotYetSaved(Glyph wordBreak) {
@@ -0,0 +1,187 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.ExpectedException;
+
+@Category(UnitTest.class)
+public class FragmentCacheTest extends ExtendedITextTest {
+
+    @Rule
+    public ExpectedException junitExpectedException = ExpectedException.none();
+
+    @Test
+    public void fragmentIsReusedWithinDocumentTest() {
+        FragmentCache cache = new FragmentCache();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        Assert.assertFalse(cache.containsFragment("header", 400));
+        Image first = cache.getFragment(pdfDocument, "header", 400, createHeader());
+        Assert.assertTrue(cache.containsFragment("header", 400));
+        Image second = cache.getFragment(pdfDocument, "header", 400, createHeader());
+
+        Assert.assertSame(first.getXObject().getPdfObject(), second.getXObject().getPdfObject());
+        Assert.assertEquals(400, first.getImageWidth(), 1e-4);
+        Assert.assertTrue(first.getImageHeight() > 0);
+    }
+
+    @Test
+    public void fragmentIsCopiedToAnotherDocumentTest() {
+        FragmentCache cache = new FragmentCache();
+        PdfDocument firstDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        PdfDocument secondDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        Image first = cache.getFragment(firstDocument, "header", 400, createHeader());
+        // the element is not laid out anymore, so any element can be passed
+        Image second = cache.getFragment(secondDocument, "header", 400, new Div());
+
+        Assert.assertNotSame(first.getXObject().getPdfObject(), second.getXObject().getPdfObject());
+        Assert.assertEquals(first.getImageHeight(), second.getImageHeight(), 1e-4);
+    }
+
+    @Test
+    public void fragmentWidthIsPartOfKeyTest() {
+        FragmentCache cache = new FragmentCache();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        PdfFormXObject wide = (PdfFormXObject) cache.getFragment(pdfDocument, "header", 400, createHeader()).getXObject();
+        PdfFormXObject narrow = (PdfFormXObject) cache.getFragment(pdfDocument, "header", 50, createHeader()).getXObject();
+
+        Assert.assertNotSame(wide, narrow);
+        Assert.assertTrue(narrow.getHeight() > wide.getHeight());
+    }
+
+    @Test
+    public void fragmentHasHeightOfElementTest() {
+        FragmentCache cache = new FragmentCache();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        float height = 100;
+        PdfFormXObject xObject = (PdfFormXObject) cache.getFragment(pdfDocument, "box", 400,
+                new Div().setHeight(height).add(new Paragraph("Fixed height"))).getXObject();
+
+        Assert.assertEquals(height, xObject.getHeight(), 1e-4);
+        String content = new String(xObject.getPdfObject().getBytes(), StandardCharsets.ISO_8859_1);
+        Assert.assertTrue(content.contains("Tj") || content.contains("TJ"));
+    }
+
+    @Test
+    public void clearTest() {
+        FragmentCache cache = new FragmentCache();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        cache.getFragment(pdfDocument, "header", 400, createHeader());
+
+        cache.clear();
+
+        Assert.assertFalse(cache.containsFragment("header", 400));
+    }
+
+    @Test
+    public void fragmentIsReusedWhenDocumentsAlternateTest() {
+        FragmentCache cache = new FragmentCache();
+        PdfDocument firstDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        PdfDocument secondDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        Image first = cache.getFragment(firstDocument, "header", 400, createHeader());
+        cache.getFragment(secondDocument, "header", 400, createHeader());
+        Image again = cache.getFragment(firstDocument, "header", 400, createHeader());
+
+        Assert.assertSame(first.getXObject().getPdfObject(), again.getXObject().getPdfObject());
+    }
+
+    @Test
+    public void capacityTest() {
+        FragmentCache cache = new FragmentCache();
+        Assert.assertEquals(FragmentCache.DEFAULT_CAPACITY, cache.getCapacity());
+        cache.setCapacity(1);
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        cache.getFragment(pdfDocument, "header", 400, createHeader());
+        cache.getFragment(pdfDocument, "footer", 400, createHeader());
+
+        Assert.assertFalse(cache.containsFragment("header", 400));
+        Assert.assertTrue(cache.containsFragment("footer", 400));
+    }
+
+    @Test
+    public void taggedDocumentTest() {
+        junitExpectedException.expect(IllegalArgumentException.class);
+        junitExpectedException.expectMessage("Fragments cannot be added to tagged documents.");
+        FragmentCache cache = new FragmentCache();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        pdfDocument.setTagged();
+
+        cache.getFragment(pdfDocument, "header", 400, createHeader());
+    }
+
+    @Test
+    public void fragmentHigherThanAreaTest() {
+        junitExpectedException.expect(IllegalArgumentException.class);
+        junitExpectedException.expectMessage("The element of the fragment does not fit into a single area.");
+        FragmentCache cache = new FragmentCache();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+
+        cache.getFragment(pdfDocument, "header", 400, new Div().setHeight(20000));
+    }
+
+    private static Div createHeader() {
+        return new Div()
+                .add(new Paragraph("iText Group NV"))
+                .add(new Paragraph("Kortrijksesteenweg 1, 9000 Gent, Belgium"));
+    }
+}
@@ -48,8 +48,11 @@ import com.itextpdf.io.util.UrlUtil;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
@@ -943,4 +946,25 @@ public class ImageTest extends ExtendedITextTest {
 
         Assert.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, destinationFolder, "diff"));
     }
+
+    @Test
+    public void equalImagesShareXObjectTest() throws IOException {
+        String outFileName = destinationFolder + "equalImagesShareXObjectTest.pdf";
+        String imageFileName = sourceFolder + "itis.jpg";
+
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(outFileName));
+        Document doc = new Document(pdfDoc);
+        doc.add(new Image(ImageDataFactory.create(imageFileName)).setWidth(100));
+        doc.add(new AreaBreak());
+        doc.add(new Image(ImageDataFactory.create(imageFileName)).setWidth(200));
+        doc.close();
+
+        PdfDocument resultDoc = new PdfDocument(new PdfReader(outFileName));
+        PdfDictionary firstXObjects = resultDoc.getPage(1).getResources().getResource(PdfName.XObject);
+        PdfDictionary secondXObjects = resultDoc.getPage(2).getResources().getResource(PdfName.XObject);
+        Assert.assertEquals(1, firstXObjects.size());
+        Assert.assertEquals(firstXObjects.values().iterator().next().getIndirectReference(),
+                secondXObjects.values().iterator().next().getIndirectReference());
+        resultDoc.close();
+    }
 }
@@ -0,0 +1,127 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.font;
+
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Collections;
+
+@Category(UnitTest.class)
+public class FontCoverageTest extends ExtendedITextTest {
+
+    @Test
+    public void coverageStatesTest() {
+        FontCoverage coverage = new FontCoverage();
+        Assert.assertEquals(FontCoverage.UNKNOWN, coverage.get('a'));
+
+        coverage.set('a', true);
+        coverage.set('b', false);
+        coverage.set(0x1F600, true);
+
+        Assert.assertEquals(FontCoverage.COVERED, coverage.get('a'));
+        Assert.assertEquals(FontCoverage.NOT_COVERED, coverage.get('b'));
+        Assert.assertEquals(FontCoverage.UNKNOWN, coverage.get('c'));
+        Assert.assertEquals(FontCoverage.COVERED, coverage.get(0x1F600));
+        Assert.assertEquals(FontCoverage.UNKNOWN, coverage.get(0x1F601));
+        Assert.assertEquals(FontCoverage.NOT_COVERED, coverage.get(Character.MAX_CODE_POINT + 1));
+        Assert.assertEquals(FontCoverage.NOT_COVERED, coverage.get(-1));
+    }
+
+    @Test
+    public void providerCoverageTest() {
+        FontProvider provider = new FontProvider();
+        provider.addStandardPdfFonts();
+        FontInfo helvetica = provider.getFontSet().get(StandardFonts.HELVETICA.toLowerCase()).iterator().next();
+
+        Assert.assertTrue(provider.isCodePointCovered(helvetica, 'a', null));
+        Assert.assertFalse(provider.isCodePointCovered(helvetica, 0x4E00, null));
+        // cached results are kept after the PdfFont cache is reset
+        provider.reset();
+        Assert.assertFalse(provider.isCodePointCovered(helvetica, 0x4E00, null));
+        Assert.assertTrue(provider.pdfFonts.isEmpty());
+        Assert.assertTrue(provider.isCodePointCovered(helvetica, 'a', null));
+    }
+
+    @Test
+    public void temporaryFontCoverageIsNotCachedTest() {
+        FontProvider provider = new FontProvider();
+        provider.addFont(StandardFonts.HELVETICA);
+        FontSet tempFonts = new FontSet();
+        tempFonts.addFont(StandardFonts.COURIER_BOLD);
+        FontInfo tempFont = tempFonts.getFonts().iterator().next();
+        FontInfo helvetica = provider.getFontSet().get(StandardFonts.HELVETICA.toLowerCase()).iterator().next();
+
+        Assert.assertTrue(provider.isCodePointCovered(tempFont, 'a', tempFonts));
+        Assert.assertTrue(provider.isCodePointCovered(helvetica, 'a', tempFonts));
+        provider.reset();
+
+        // the coverage of the font of the provider is cached, so no PdfFont is needed to check it again
+        Assert.assertTrue(provider.isCodePointCovered(helvetica, 'a', tempFonts));
+        Assert.assertFalse(provider.pdfFonts.containsKey(helvetica));
+        // the coverage of the temporary font is not cached, so its PdfFont is created anew
+        Assert.assertTrue(provider.isCodePointCovered(tempFont, 'a', tempFonts));
+        Assert.assertTrue(provider.pdfFonts.containsKey(tempFont));
+    }
+
+    @Test
+    public void strategyUsesCoverageTest() {
+        FontProvider provider = new FontProvider();
+        provider.addStandardPdfFonts();
+
+        FontSelectorStrategy strategy = provider.getStrategy("abc αβγ", Collections.singletonList(StandardFonts.HELVETICA));
+        PdfFont firstFont = null;
+        while (!strategy.endOfText()) {
+            strategy.nextGlyphs();
+            if (firstFont == null) {
+                firstFont = strategy.getCurrentFont();
+            }
+        }
+        Assert.assertEquals(StandardFonts.HELVETICA, firstFont.getFontProgram().getFontNames().getFontName());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.profiling;
+
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.Canvas;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.renderer.ParagraphRenderer;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class LayoutProfilingTest extends ExtendedITextTest {
+
+    @Test
+    public void layoutAndDrawEventsTest() {
+        List<LayoutProfilingEvent> events = new ArrayList<>();
+        Document document = createDocument(events);
+
+        document.add(new Paragraph("Hello World"));
+
+        Assert.assertEquals(LayoutProfilingEventType.LAYOUT, events.get(0).getType());
+        Assert.assertEquals(ParagraphRenderer.class, events.get(0).getRendererClass());
+        Assert.assertEquals(1, events.get(0).getPageNumber());
+        Assert.assertTrue(events.get(0).getDuration() >= 0);
+        Assert.assertEquals(1, count(events, LayoutProfilingEventType.DRAW));
+        Assert.assertEquals(0, count(events, LayoutProfilingEventType.SPLIT));
+    }
+
+    @Test
+    public void splitEventTest() {
+        List<LayoutProfilingEvent> events = new ArrayList<>();
+        Document document = createDocument(events);
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            text.append("Hello World ");
+        }
+        document.add(new Paragraph(text.toString()));
+
+        int numberOfPages = document.getPdfDocument().getNumberOfPages();
+        Assert.assertTrue(numberOfPages > 1);
+        Assert.assertEquals(numberOfPages - 1, count(events, LayoutProfilingEventType.SPLIT));
+        Assert.assertEquals(numberOfPages, count(events, LayoutProfilingEventType.DRAW));
+        Assert.assertEquals(numberOfPages, events.get(events.size() - 1).getPageNumber());
+    }
+
+    @Test
+    public void formXObjectCanvasEventsTest() {
+        final List<LayoutProfilingEvent> events = new ArrayList<>();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        pdfDocument.addNewPage();
+        Canvas canvas = new Canvas(new PdfFormXObject(new Rectangle(200, 100)), pdfDocument);
+        canvas.setLayoutProfilingListener(new ILayoutProfilingListener() {
+            @Override
+            public void onEvent(LayoutProfilingEvent event) {
+                events.add(event);
+            }
+        });
+
+        canvas.add(new Paragraph("Hello World"));
+
+        Assert.assertEquals(1, count(events, LayoutProfilingEventType.DRAW));
+        for (LayoutProfilingEvent event : events) {
+            Assert.assertEquals(0, event.getPageNumber());
+        }
+    }
+
+    @Test
+    public void noListenerTest() {
+        Document document = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())));
+        document.add(new Paragraph("Hello World"));
+
+        Assert.assertEquals(1, document.getPdfDocument().getNumberOfPages());
+    }
+
+    private static Document createDocument(final List<LayoutProfilingEvent> events) {
+        Document document = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())), new PageSize(200, 100));
+        document.setLayoutProfilingListener(new ILayoutProfilingListener() {
+            @Override
+            public void onEvent(LayoutProfilingEvent event) {
+                events.add(event);
+            }
+        });
+        return document;
+    }
+
+    private static int count(List<LayoutProfilingEvent> events, LayoutProfilingEventType type) {
+        int count = 0;
+        for (LayoutProfilingEvent event : events) {
+            if (event.getType() == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
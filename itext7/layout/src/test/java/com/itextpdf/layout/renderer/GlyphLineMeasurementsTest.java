@@ -0,0 +1,132 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2020 iText Group NV
+    Authors: iText Software.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.renderer;
+
+import com.itextpdf.io.font.otf.Glyph;
+import com.itextpdf.io.font.otf.GlyphLine;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class GlyphLineMeasurementsTest extends ExtendedITextTest {
+
+    private static final float EPS = 1e-4f;
+
+    @Test
+    public void charWidthAndXAdvanceTest() {
+        GlyphLine line = createLine();
+        GlyphLineMeasurements measurements = new GlyphLineMeasurements(line.size(), 12, 1.5f, 0.5f, 2f);
+
+        // 'A': 600 * 12 * 1.5 / 1000 + character spacing 0.5 * 1.5
+        Assert.assertEquals(11.55f, measurements.getCharWidth(line, 0), EPS);
+        // ' ': 250 * 12 * 1.5 / 1000 + (character spacing 0.5 + word spacing 2) * 1.5
+        Assert.assertEquals(8.25f, measurements.getCharWidth(line, 1), EPS);
+        // kerning of 'V': -80 * 12 * 1.5 / 1000
+        Assert.assertEquals(-1.44f, measurements.getXAdvance(line, 2), EPS);
+        Assert.assertEquals(0, measurements.getXAdvance(line, 0), EPS);
+    }
+
+    @Test
+    public void rangeWidthMatchesSequentialSumTest() {
+        GlyphLine line = createLine();
+        GlyphLineMeasurements measurements = new GlyphLineMeasurements(line.size(), 10, 1, null, 1f);
+        for (int start = 0; start < line.size(); start++) {
+            for (int end = start; end <= line.size(); end++) {
+                Assert.assertEquals(sequentialWidth(line, start, end, 10, 1f), measurements.getWidth(line, start, end), EPS);
+            }
+        }
+    }
+
+    @Test
+    public void replacedGlyphIsMeasuredAgainTest() {
+        GlyphLine line = createLine();
+        GlyphLineMeasurements measurements = new GlyphLineMeasurements(line.size(), 10, 1, null, null);
+        float initialWidth = measurements.getWidth(line, 0, line.size());
+
+        line.set(1, new Glyph(3, 500, ' '));
+        Assert.assertEquals(5f, measurements.getCharWidth(line, 1), EPS);
+        Assert.assertEquals(initialWidth + 2.5f, measurements.getWidth(line, 0, line.size()), EPS);
+    }
+
+    @Test
+    public void measuredWithTest() {
+        GlyphLineMeasurements measurements = new GlyphLineMeasurements(5, 10, 1, null, 2f);
+        Assert.assertTrue(measurements.isMeasuredWith(5, 10, 1, null, 2f));
+        Assert.assertFalse(measurements.isMeasuredWith(6, 10, 1, null, 2f));
+        Assert.assertFalse(measurements.isMeasuredWith(5, 11, 1, null, 2f));
+        Assert.assertFalse(measurements.isMeasuredWith(5, 10, 1, 0f, 2f));
+        Assert.assertFalse(measurements.isMeasuredWith(5, 10, 1, null, null));
+    }
+
+    private static GlyphLine createLine() {
+        List<Glyph> glyphs = new ArrayList<>();
+        glyphs.add(new Glyph(1, 600, 'A'));
+        glyphs.add(new Glyph(2, 250, ' '));
+        Glyph kerned = new Glyph(3, 650, 'V');
+        kerned.setXAdvance((short) -80);
+        glyphs.add(kerned);
+        // right-to-left mark is not printed and does not take any space
+        glyphs.add(new Glyph(4, 0, '\u200F'));
+        glyphs.add(new Glyph(5, 600, 'A'));
+        return new GlyphLine(glyphs);
+    }
+
+    private static float sequentialWidth(GlyphLine line, int start, int end, float fontSize, Float wordSpacing) {
+        float width = 0;
+        for (int i = start; i < end; i++) {
+            if (!TextRenderer.noPrint(line.get(i))) {
+                width += TextRenderer.getCharWidth(line.get(i), fontSize, 1f, null, wordSpacing);
+                if (i != start) {
+                    width += line.get(i - 1).getXAdvance() * fontSize;
+                }
+            }
+        }
+        return width / TextRenderer.TEXT_SPACE_COEFF;
+    }
+}